@@ -0,0 +1,109 @@
+package com.kustacks.kuring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class ExecutorConfig {
+
+    /*
+        카테고리별 공지 수신을 병렬로 처리하기 위한 스레드 풀
+        카테고리 수 만큼의 작업만 동시에 들어오므로 큐는 작게 유지한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor noticeFetchExecutor(@Value("${notice.fetch-pool-size}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 2);
+        executor.setThreadNamePrefix("notice-fetch-thread-pool-");
+        return executor;
+    }
+
+    /*
+        웹소켓 검색 요청을 컨테이너의 I/O 스레드 대신 처리하기 위한 스레드 풀
+        큐가 가득 차면 요청을 거절하고, 클라이언트에게 에러 메세지를 보낸다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor webSocketSearchExecutor(@Value("${websocket.search-pool-size}") int poolSize,
+                                                          @Value("${websocket.search-queue-capacity}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("websocket-search-thread-pool-");
+        return executor;
+    }
+
+    /*
+        토픽 구독 요청을 잠시 모았다가 토픽별로 묶어 보내기 위한 스레드 풀
+        묶음 전송 예약과 토픽별 FCM 요청 전송에 함께 사용한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler topicSubscriptionScheduler(@Value("${fcm.subscription-pool-size}") int poolSize) {
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("topic-subscription-thread-pool-");
+        return scheduler;
+    }
+
+    /*
+        학과별 교직원 스크래핑을 동시에 처리하기 위한 스레드 풀
+        실패한 학과의 재시도도 이 풀에 예약한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler staffScrapScheduler(@Value("${staff.scrap-pool-size}") int poolSize) {
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("staff-scrap-thread-pool-");
+        return scheduler;
+    }
+
+    /*
+        한 학과의 교직원 페이지들을 동시에 요청하기 위한 스레드 풀
+        호스트별 동시 요청 수는 HostRequestThrottle이 따로 제한한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor staffPageFetchExecutor(@Value("${staff.page-fetch-pool-size}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("staff-page-fetch-thread-pool-");
+        return executor;
+    }
+
+    /*
+        프록시를 거쳐 보내는 요청과, 응답이 늦을 때 다른 프록시로 함께 보내는 요청(hedged request)을 처리하기 위한 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor proxyRequestExecutor(@Value("${staff.proxy-pool-size}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("proxy-request-thread-pool-");
+        return executor;
+    }
+
+    /*
+        주기가 긴 작업(교직원 갱신, 토큰 검증)을 스케줄러 스레드 대신 실행하기 위한 스레드 풀
+        같은 작업은 UpdaterJobRunner가 동시에 하나만 실행한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor updaterJobExecutor(@Value("${job.pool-size}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("updater-job-thread-pool-");
+        return executor;
+    }
+}
@@ -1,23 +1,43 @@
 package com.kustacks.kuring.config;
 
+import com.kustacks.kuring.kuapi.api.RequestDeadline;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.protocol.HttpContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+
 @Configuration
 public class RestConfig {
 
+    private static final int TIMEOUT = 5000; //5초
+
     @Bean
     public RestTemplate restTemplate() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  //5초
-        factory.setReadTimeout(5000);     //5초
+        // 요청마다 RequestDeadline의 남은 시간을 타임아웃의 상한으로 사용한다.
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory() {
+            @Override
+            protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                int timeout = RequestDeadline.boundTimeout(TIMEOUT);
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(timeout)
+                        .setConnectionRequestTimeout(timeout)
+                        .setSocketTimeout(timeout)
+                        .build());
+                return context;
+            }
+        };
         CloseableHttpClient httpClient = HttpClientBuilder.create()
                 .setMaxConnTotal(100)
-                .setMaxConnPerRoute(5)
+                .setMaxConnPerRoute(10) // kuis 공지 카테고리들을 동시에 요청하므로 카테고리 수보다 크게 설정
                 .build();
         factory.setHttpClient(httpClient);
         return new RestTemplate(factory);
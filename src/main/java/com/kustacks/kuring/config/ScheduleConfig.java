@@ -10,7 +10,7 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 @EnableScheduling
 public class ScheduleConfig implements SchedulingConfigurer {
 
-    private final int POOL_SIZE = 3;
+    private final int POOL_SIZE = 6;
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
@@ -13,6 +13,7 @@ import com.kustacks.kuring.error.APIException;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.UpdaterJobRunner;
 import com.kustacks.kuring.service.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +42,7 @@ public class AdminController {
     private final CategoryService categoryService;
     private final FirebaseService firebaseService;
     private final AdminService adminService;
+    private final UpdaterJobRunner updaterJobRunner;
 
     private final ObjectMapper objectMapper;
     private final Map<String, Category> categoryMap;
@@ -58,11 +60,13 @@ public class AdminController {
             CategoryServiceImpl categoryService,
             FirebaseService firebaseService,
             AdminServiceImpl adminService,
+            UpdaterJobRunner updaterJobRunner,
             ObjectMapper objectMapper) {
 
         this.categoryService = categoryService;
         this.firebaseService = firebaseService;
         this.adminService = adminService;
+        this.updaterJobRunner = updaterJobRunner;
 
         this.objectMapper = objectMapper;
         this.categoryMap = adminService.getCategoryMap();
@@ -191,6 +195,27 @@ public class AdminController {
         return new ResponseDTO(true, "성공", 200);
     }
 
+    /*
+        교직원 갱신(staff), 토큰 검증(user) 작업을 주기와 관계없이 바로 실행
+        작업은 백그라운드에서 실행되며, 결과는 job_ledger에 기록된다.
+     */
+    @CheckSession
+    @ResponseBody
+    @PostMapping(value = "/service/jobs/{jobName}/run", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseDTO runJob(@PathVariable String jobName) {
+
+        if(!updaterJobRunner.hasJob(jobName)) {
+            throw new APIException(ErrorCode.API_ADMIN_INVALID_JOB);
+        }
+
+        boolean isStarted = updaterJobRunner.runNow(jobName);
+        if(!isStarted) {
+            throw new APIException(ErrorCode.API_ADMIN_JOB_ALREADY_RUNNING);
+        }
+
+        return new ResponseDTO(true, "성공", 200);
+    }
+
     @CheckSession(isSessionRequired = false)
     @GetMapping("/login")
     public String loginPage(HttpServletRequest request, HttpServletResponse response) throws IOException {
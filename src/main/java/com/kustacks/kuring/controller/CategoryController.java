@@ -25,15 +25,15 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final UserService userService;
-    private final FirebaseService firebaseService;
+    private final TokenValidityCache tokenValidityCache;
 
     public CategoryController(
             CategoryServiceImpl categoryService,
-            FirebaseService firebaseService,
+            TokenValidityCache tokenValidityCache,
             UserServiceImpl userService) {
         this.categoryService = categoryService;
         this.userService = userService;
-        this.firebaseService = firebaseService;
+        this.tokenValidityCache = tokenValidityCache;
     }
 
     @GetMapping("/notice/categories")
@@ -58,7 +58,9 @@ public class CategoryController {
         }
 
         try {
-            firebaseService.verifyToken(token);
+            if(!tokenValidityCache.isValid(token)) {
+                throw new APIException(ErrorCode.API_FB_INVALID_TOKEN);
+            }
         } catch (FirebaseMessagingException e) {
             throw new APIException(ErrorCode.API_FB_INVALID_TOKEN, e);
         }
@@ -93,7 +95,9 @@ public class CategoryController {
         User user = userService.getUserByToken(token);
         if(user == null) {
             try {
-                firebaseService.verifyToken(token);
+                if(!tokenValidityCache.isValid(token)) {
+                    throw new APIException(ErrorCode.API_FB_INVALID_TOKEN);
+                }
             } catch(FirebaseMessagingException | InternalLogicException e) {
                 throw new APIException(ErrorCode.API_FB_INVALID_TOKEN, e);
             }
@@ -17,14 +17,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/api/v1", produces = MediaType.APPLICATION_JSON_VALUE)
 public class FeedbackController {
 
-    private final FirebaseService firebaseService;
+    private final TokenValidityCache tokenValidityCache;
     private final FeedbackService feedbackService;
 
     public FeedbackController(
-            FirebaseService firebaseService,
+            TokenValidityCache tokenValidityCache,
             FeedbackServiceImpl feedbackService) {
 
-        this.firebaseService = firebaseService;
+        this.tokenValidityCache = tokenValidityCache;
         this.feedbackService = feedbackService;
     }
 
@@ -41,8 +41,9 @@ public class FeedbackController {
             throw new APIException(ErrorCode.API_FD_INVALID_CONTENT);
         }
 
+        boolean isValidToken;
         try {
-            firebaseService.verifyToken(token);
+            isValidToken = tokenValidityCache.isValid(token);
         } catch(Exception e) {
             if(e instanceof FirebaseMessagingException) {
                 throw new APIException(ErrorCode.API_FB_INVALID_TOKEN);
@@ -51,6 +52,10 @@ public class FeedbackController {
             }
         }
 
+        if(!isValidToken) {
+            throw new APIException(ErrorCode.API_FB_INVALID_TOKEN);
+        }
+
         feedbackService.insertFeedback(token, content);
 
         return InsertFeedbackResponseDTO.builder().build();
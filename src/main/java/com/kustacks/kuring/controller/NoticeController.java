@@ -1,5 +1,6 @@
 package com.kustacks.kuring.controller;
 
+import com.kustacks.kuring.controller.dto.NoticeCursor;
 import com.kustacks.kuring.controller.dto.NoticeDTO;
 import com.kustacks.kuring.controller.dto.NoticeResponseDTO;
 import com.kustacks.kuring.error.APIException;
@@ -38,8 +39,9 @@ public class NoticeController {
     @GetMapping("/notice")
     public NoticeResponseDTO getNotices(
             @RequestParam(name = "type") String type,
-            @RequestParam(name = "offset") @Min(0) int offset,
-            @RequestParam(name = "max") @Min(1) @Max(30) int max) {
+            @RequestParam(name = "offset", defaultValue = "0") @Min(0) int offset,
+            @RequestParam(name = "max") @Min(1) @Max(30) int max,
+            @RequestParam(name = "after", required = false) String after) {
 
         String categoryName = "";
         for (CategoryName noticeCategory : CategoryName.values()) {
@@ -52,11 +54,23 @@ public class NoticeController {
             throw new APIException(ErrorCode.API_NOTICE_NOT_EXIST_CATEGORY);
         }
 
-        List<NoticeDTO> notices = noticeService.getNotices(categoryName, offset, max);
+        // after가 있으면 커서 기반으로, 없으면 기존처럼 offset 기반으로 조회
+        List<NoticeDTO> notices;
+        if(after == null) {
+            notices = noticeService.getNotices(categoryName, offset, max);
+        } else {
+            notices = noticeService.getNoticesAfter(categoryName, NoticeCursor.parse(after), max);
+        }
+
         if(notices == null) {
             throw new APIException(ErrorCode.API_NOTICE_NOT_EXIST_CATEGORY);
         }
 
-        return new NoticeResponseDTO(type.equals(CategoryName.LIBRARY.getShortName()) ? libraryBaseUrl : normalBaseUrl, notices);
+        String nextCursor = null;
+        if(notices.size() == max && notices.get(max - 1).getPostedAt() != null) {
+            nextCursor = NoticeCursor.of(notices.get(max - 1)).toString();
+        }
+
+        return new NoticeResponseDTO(type.equals(CategoryName.LIBRARY.getShortName()) ? libraryBaseUrl : normalBaseUrl, notices, nextCursor);
     }
 }
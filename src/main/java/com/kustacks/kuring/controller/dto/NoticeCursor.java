@@ -0,0 +1,50 @@
+package com.kustacks.kuring.controller.dto;
+
+import com.kustacks.kuring.error.APIException;
+import com.kustacks.kuring.error.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/*
+    공지 목록 커서. "<yyyyMMddHHmmss 형식의 게시일>,<id>" 형식의 문자열로 주고받으며,
+    이 커서 다음(게시일 내림차순, 같은 게시일이면 id 내림차순)의 공지부터 조회하는 데 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeCursor {
+
+    private static final String DELIMITER = ",";
+    private static final DateTimeFormatter POSTED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private LocalDateTime postedAt;
+    private Long id;
+
+    public static NoticeCursor parse(String cursor) {
+
+        int delimiterIndex = cursor.lastIndexOf(DELIMITER);
+        if(delimiterIndex <= 0 || delimiterIndex == cursor.length() - 1) {
+            throw new APIException(ErrorCode.API_INVALID_PARAM);
+        }
+
+        try {
+            LocalDateTime postedAt = LocalDateTime.parse(cursor.substring(0, delimiterIndex), POSTED_AT_FORMATTER);
+            Long id = Long.parseLong(cursor.substring(delimiterIndex + 1));
+            return new NoticeCursor(postedAt, id);
+        } catch(DateTimeParseException | NumberFormatException e) {
+            throw new APIException(ErrorCode.API_INVALID_PARAM, e);
+        }
+    }
+
+    public static NoticeCursor of(NoticeDTO noticeDTO) {
+        return new NoticeCursor(noticeDTO.getPostedAt(), noticeDTO.getId());
+    }
+
+    @Override
+    public String toString() {
+        return postedAt.format(POSTED_AT_FORMATTER) + DELIMITER + id;
+    }
+}
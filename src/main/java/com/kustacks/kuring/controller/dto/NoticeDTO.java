@@ -1,21 +1,31 @@
 package com.kustacks.kuring.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kustacks.kuring.domain.notice.Notice;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 @Builder
 public class NoticeDTO {
+    // id와 postedAt은 커서 생성에만 사용하고 응답에는 포함하지 않는다.
+    @JsonIgnore
+    private Long id;
+
     @JsonProperty("articleId")
     private String articleId;
 
     @JsonProperty("postedDate")
     private String postedDate;
 
+    @JsonIgnore
+    private LocalDateTime postedAt;
+
     @JsonProperty("subject")
     private String subject;
 
@@ -1,5 +1,6 @@
 package com.kustacks.kuring.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
@@ -14,9 +15,19 @@ public class NoticeResponseDTO extends ResponseDTO {
     @JsonProperty("noticeList")
     private List<NoticeDTO> noticeList;
 
+    // 다음 페이지가 없을 수 있는 경우(받은 공지 수가 max보다 적은 경우)에는 응답에서 생략한다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
     public NoticeResponseDTO(String baseUrl, List<NoticeDTO> noticeList) {
+        this(baseUrl, noticeList, null);
+    }
+
+    public NoticeResponseDTO(String baseUrl, List<NoticeDTO> noticeList, String nextCursor) {
         super(true, "성공", 200);
         this.baseUrl = baseUrl;
         this.noticeList = noticeList;
+        this.nextCursor = nextCursor;
     }
 }
@@ -7,16 +7,23 @@ import com.kustacks.kuring.controller.dto.SearchRequestDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.WebSocketExceptionHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Component
@@ -32,15 +39,33 @@ public class FrontWebSocketHandler extends TextWebSocketHandler {
 
     private final Map<String, SearchHandler> supportedHandlers;
 
+    private final ThreadPoolTaskExecutor webSocketSearchExecutor;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+
+    // key: 세션 id
+    private final Map<String, WebSocketSession> concurrentSessions;
+    private final Map<String, Future<?>> runningSearches;
+
     public FrontWebSocketHandler(
             ObjectMapper objectMapper,
             WebSocketExceptionHandler exceptionHandler,
             NoticeWebSocketHandler noticeWebSocketHandler,
-            StaffWebSocketHandler staffWebSocketHandler) {
+            StaffWebSocketHandler staffWebSocketHandler,
+            ThreadPoolTaskExecutor webSocketSearchExecutor,
+            @Value("${websocket.send-time-limit}") int sendTimeLimit,
+            @Value("${websocket.send-buffer-size-limit}") int sendBufferSizeLimit) {
 
         this.objectMapper = objectMapper;
         this.exceptionHandler = exceptionHandler;
 
+        this.webSocketSearchExecutor = webSocketSearchExecutor;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+
+        this.concurrentSessions = new ConcurrentHashMap<>();
+        this.runningSearches = new ConcurrentHashMap<>();
+
         this.noticeWebSocketHandler = noticeWebSocketHandler;
         this.staffWebSocketHandler = staffWebSocketHandler;
 
@@ -50,7 +75,10 @@ public class FrontWebSocketHandler extends TextWebSocketHandler {
     }
 
     @Override
-    public void handleTextMessage(WebSocketSession session, TextMessage message) {
+    public void handleTextMessage(WebSocketSession rawSession, TextMessage message) {
+
+        // 검색 스레드와 I/O 스레드가 동시에 메세지를 보낼 수 있으므로, 항상 동시 전송이 가능한 세션으로 보낸다.
+        WebSocketSession session = concurrentSessions.getOrDefault(rawSession.getId(), rawSession);
 
         String payload = message.getPayload();
         SearchRequestDTO requestDTO;
@@ -88,7 +116,30 @@ public class FrontWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        searchHandler.handleTextMessage(session, content);
+        dispatchSearch(session, searchHandler, content, type);
+    }
+
+    /*
+        검색은 별도의 스레드 풀에서 수행한다.
+        같은 세션에서 이전 검색이 아직 끝나지 않았다면, 그 결과는 더 이상 필요없으므로 취소한다.
+     */
+    private void dispatchSearch(WebSocketSession session, SearchHandler searchHandler, String content, String type) {
+
+        Future<?> previousSearch = runningSearches.remove(session.getId());
+        if(previousSearch != null) {
+            previousSearch.cancel(true);
+        }
+
+        try {
+            ListenableFuture<?> search = webSocketSearchExecutor.submitListenable(() -> searchHandler.handleTextMessage(session, content));
+            runningSearches.put(session.getId(), search);
+            search.addCallback(
+                    result -> runningSearches.remove(session.getId(), search),
+                    e -> runningSearches.remove(session.getId(), search));
+        } catch(TaskRejectedException e) {
+            log.warn("[FrontWebSocketHandler] 검색 요청이 많아 처리할 수 없습니다.");
+            exceptionHandler.sendErrorMessage(session, ErrorCode.WS_SERVER_ERROR, type);
+        }
     }
 
     private void handleHeartBeat(WebSocketSession session) throws IOException {
@@ -105,11 +156,20 @@ public class FrontWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.debug(session + " 클라이언트 접속");
+
+        // 전송이 sendTimeLimit 이상 걸리거나 보내지 못한 메세지가 sendBufferSizeLimit을 넘으면 세션을 닫는다.
+        concurrentSessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, sendBufferSizeLimit));
     }
 
     /* Client가 접속 해제 시 호출되는 메서드드 */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         log.debug(session + " 클라이언트 접속 해제");
+
+        concurrentSessions.remove(session.getId());
+        Future<?> runningSearch = runningSearches.remove(session.getId());
+        if(runningSearch != null) {
+            runningSearch.cancel(true);
+        }
     }
 }
@@ -7,16 +7,19 @@ import com.kustacks.kuring.controller.dto.NoticeWebSocketResponseDTO;
 import com.kustacks.kuring.domain.notice.Notice;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.WebSocketExceptionHandler;
+import com.kustacks.kuring.event.SearchDataUpdatedEvent;
+import com.kustacks.kuring.kuapi.CategoryName;
 import com.kustacks.kuring.service.NoticeService;
 import com.kustacks.kuring.service.NoticeServiceImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -34,16 +37,20 @@ public class NoticeWebSocketHandler implements SearchHandler {
     private final NoticeService noticeService;
     private final ObjectMapper objectMapper;
     private final WebSocketExceptionHandler exceptionHandler;
+    private final SearchResultCache<NoticeSearchDTO> searchResultCache;
 
 
     public NoticeWebSocketHandler(
             NoticeServiceImpl noticeService,
             ObjectMapper objectMapper,
-            WebSocketExceptionHandler exceptionHandler) {
+            WebSocketExceptionHandler exceptionHandler,
+            @Value("${search.cache-size}") int cacheSize,
+            @Value("${search.cache-ttl}") long cacheTtl) {
 
         this.noticeService = noticeService;
         this.objectMapper = objectMapper;
         this.exceptionHandler = exceptionHandler;
+        this.searchResultCache = new SearchResultCache<>(cacheSize, cacheTtl, this::search, this::filterByPrefix, this::serialize);
     }
 
     @Override
@@ -54,18 +61,13 @@ public class NoticeWebSocketHandler implements SearchHandler {
             return;
         }
 
-        List<Notice> notices = noticeService.handleSearchRequest(keywords);
-
-        LinkedList<NoticeSearchDTO> noticeDTOList = new LinkedList<>();
-        for (Notice notice : notices) {
-            noticeDTOList.add(NoticeSearchDTO.entityToDTO(notice, notice.getCategory().getName().equals("library")
-                    ? libraryBaseUrl : normalBaseUrl));
-        }
-
-        NoticeWebSocketResponseDTO responseObject = NoticeWebSocketResponseDTO.builder().noticeList(noticeDTOList).build();
-
         try {
-            String responseString = objectMapper.writeValueAsString(responseObject);
+            String responseString = searchResultCache.getSerialized(SearchResultCache.normalize(keywords));
+
+            // 검색 중 같은 세션에서 새 검색 요청이 와서 취소되었다면, 이전 결과는 보내지 않는다.
+            if(Thread.currentThread().isInterrupted()) {
+                return;
+            }
             session.sendMessage(new TextMessage(responseString));
         } catch(IOException e) {
             if(e instanceof JsonProcessingException) {
@@ -76,4 +78,69 @@ public class NoticeWebSocketHandler implements SearchHandler {
             log.error("", e);
         }
     }
+
+    @EventListener
+    public void invalidateSearchResultCache(SearchDataUpdatedEvent event) {
+        if(ERROR_TYPE.equals(event.getType())) {
+            searchResultCache.invalidate();
+        }
+    }
+
+    private List<NoticeSearchDTO> search(String keywords) {
+
+        List<Notice> notices = noticeService.handleSearchRequest(keywords);
+
+        List<NoticeSearchDTO> noticeDTOList = new ArrayList<>(notices.size());
+        for (Notice notice : notices) {
+            noticeDTOList.add(NoticeSearchDTO.entityToDTO(notice, notice.getCategory().getName().equals("library")
+                    ? libraryBaseUrl : normalBaseUrl));
+        }
+
+        return noticeDTOList;
+    }
+
+    /*
+        앞부분 검색어의 결과에 남은 키워드 조건을 적용한다. 게시일 순서는 그대로 유지된다.
+        카테고리 한글명 키워드(예: 학사)는 카테고리 검색으로 바뀌어 일반 키워드와 조건이 달라지므로 재사용하지 않는다.
+     */
+    private List<NoticeSearchDTO> filterByPrefix(List<NoticeSearchDTO> prefixResults, String prefixQuery, String query) {
+
+        String[] keywords = query.split(" ");
+        if(containsCategoryKorName(prefixQuery.split(" ")) || containsCategoryKorName(keywords)) {
+            return null;
+        }
+
+        List<NoticeSearchDTO> results = new ArrayList<>();
+        for (NoticeSearchDTO notice : prefixResults) {
+            boolean isMatched = true;
+            for (String keyword : keywords) {
+                if(!notice.getSubject().contains(keyword) && !notice.getCategoryName().contains(keyword)) {
+                    isMatched = false;
+                    break;
+                }
+            }
+
+            if(isMatched) {
+                results.add(notice);
+            }
+        }
+
+        return results;
+    }
+
+    private boolean containsCategoryKorName(String[] keywords) {
+        for (String keyword : keywords) {
+            for (CategoryName categoryName : CategoryName.values()) {
+                if(categoryName.getKorName().equals(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String serialize(List<NoticeSearchDTO> noticeDTOList) throws JsonProcessingException {
+        NoticeWebSocketResponseDTO responseObject = NoticeWebSocketResponseDTO.builder().noticeList(noticeDTOList).build();
+        return objectMapper.writeValueAsString(responseObject);
+    }
 }
@@ -0,0 +1,161 @@
+package com.kustacks.kuring.controller.handler;
+
+import com.kustacks.kuring.util.cache.ExpiringLruCache;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    검색어별 검색 결과와 직렬화된 응답 문자열을 보관하는 캐시.
+
+    1. 캐시에 있으면 그대로 응답한다.
+    2. 같은 검색어를 이미 다른 세션이 계산 중이라면, 그 계산이 끝나기를 기다려 결과를 공유한다.
+    3. 검색어의 앞부분(예: "컴퓨터"에 대한 "컴퓨")이 캐시에 있고 재사용할 수 있다면, 그 결과를 걸러서 응답한다.
+    4. 그 외에는 searcher로 새로 검색한다.
+
+    데이터가 갱신되면 invalidate로 캐시를 비운다. 비우기 전에 시작된 계산의 결과는 캐시에 저장하지 않는다.
+ */
+public class SearchResultCache<T> {
+
+    @FunctionalInterface
+    public interface Searcher<T> {
+        List<T> search(String query);
+    }
+
+    @FunctionalInterface
+    public interface PrefixFilter<T> {
+        /**
+         * prefixQuery의 검색 결과(prefixResults)를 걸러 query의 검색 결과를 만든다. 재사용할 수 없다면 null을 반환한다.
+         */
+        List<T> filter(List<T> prefixResults, String prefixQuery, String query);
+    }
+
+    @FunctionalInterface
+    public interface Serializer<T> {
+        String serialize(List<T> results) throws IOException;
+    }
+
+    private final Searcher<T> searcher;
+    private final PrefixFilter<T> prefixFilter;
+    private final Serializer<T> serializer;
+
+    private final ExpiringLruCache<String, CachedResult<T>> cache;
+    private final ConcurrentMap<String, CompletableFuture<CachedResult<T>>> inFlight;
+    private final AtomicLong generation;
+
+    public SearchResultCache(int maxSize, long ttlMillis, Searcher<T> searcher, PrefixFilter<T> prefixFilter, Serializer<T> serializer) {
+        this.searcher = searcher;
+        this.prefixFilter = prefixFilter;
+        this.serializer = serializer;
+
+        this.cache = new ExpiringLruCache<>(maxSize, ttlMillis);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * 검색어를 정규화한다. [\s+]로 나눈 키워드를 공백 하나로 이어 붙인다.
+     */
+    public static String normalize(String keywords) {
+        return String.join(" ", keywords.trim().split("[\\s+]+"));
+    }
+
+    /**
+     * 정규화된 검색어의 직렬화된 검색 결과를 반환한다.
+     */
+    public String getSerialized(String query) throws IOException {
+
+        CachedResult<T> cachedResult = cache.get(query);
+        if(cachedResult != null) {
+            return cachedResult.getSerialized();
+        }
+
+        CompletableFuture<CachedResult<T>> future = new CompletableFuture<>();
+        CompletableFuture<CachedResult<T>> runningFuture = inFlight.putIfAbsent(query, future);
+        if(runningFuture != null) {
+            return join(runningFuture).getSerialized();
+        }
+
+        long startGeneration = generation.get();
+        try {
+            CachedResult<T> result = compute(query);
+            if(startGeneration == generation.get()) {
+                cache.put(query, result);
+            }
+            future.complete(result);
+            return result.getSerialized();
+        } catch(IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(query, future);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private CachedResult<T> compute(String query) throws IOException {
+
+        for (int end = query.length() - 1; end > 0; --end) {
+            String prefixQuery = query.substring(0, end);
+            if(prefixQuery.endsWith(" ")) {
+                continue;
+            }
+
+            CachedResult<T> prefixResult = cache.get(prefixQuery);
+            if(prefixResult == null) {
+                continue;
+            }
+
+            List<T> results = prefixFilter.filter(prefixResult.getResults(), prefixQuery, query);
+            if(results != null) {
+                return new CachedResult<>(results, serializer.serialize(results));
+            }
+            break;
+        }
+
+        List<T> results = searcher.search(query);
+        return new CachedResult<>(results, serializer.serialize(results));
+    }
+
+    private CachedResult<T> join(CompletableFuture<CachedResult<T>> future) throws IOException {
+        try {
+            return future.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class CachedResult<T> {
+
+        private final List<T> results;
+        private final String serialized;
+
+        CachedResult(List<T> results, String serialized) {
+            this.results = results;
+            this.serialized = serialized;
+        }
+
+        List<T> getResults() {
+            return results;
+        }
+
+        String getSerialized() {
+            return serialized;
+        }
+    }
+}
@@ -7,15 +7,18 @@ import com.kustacks.kuring.controller.dto.StaffWebSocketResponseDTO;
 import com.kustacks.kuring.domain.staff.Staff;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.WebSocketExceptionHandler;
+import com.kustacks.kuring.event.SearchDataUpdatedEvent;
 import com.kustacks.kuring.service.StaffService;
 import com.kustacks.kuring.service.StaffServiceImpl;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -27,15 +30,19 @@ public class StaffWebSocketHandler implements SearchHandler {
     private final StaffService staffService;
     private final ObjectMapper objectMapper;
     private final WebSocketExceptionHandler exceptionHandler;
+    private final SearchResultCache<StaffDTO> searchResultCache;
 
     public StaffWebSocketHandler(
             StaffServiceImpl staffService,
             ObjectMapper objectMapper,
-            WebSocketExceptionHandler exceptionHandler) {
+            WebSocketExceptionHandler exceptionHandler,
+            @Value("${search.cache-size}") int cacheSize,
+            @Value("${search.cache-ttl}") long cacheTtl) {
 
         this.staffService = staffService;
         this.objectMapper = objectMapper;
         this.exceptionHandler = exceptionHandler;
+        this.searchResultCache = new SearchResultCache<>(cacheSize, cacheTtl, this::search, this::filterByPrefix, this::serialize);
     }
 
     @Override
@@ -46,18 +53,13 @@ public class StaffWebSocketHandler implements SearchHandler {
             return;
         }
 
-        List<Staff> searchResult = staffService.handleSearchRequest(keywords);
-
-        List<StaffDTO> searchResultDTOList = new LinkedList<>();
-        for (Staff staff : searchResult) {
-            searchResultDTOList.add(StaffDTO.entityToDTO(staff));
-        }
-
-        StaffWebSocketResponseDTO responseObject = StaffWebSocketResponseDTO.builder()
-                .staffDTOList(searchResultDTOList).build();
-
         try {
-            String responseString = objectMapper.writeValueAsString(responseObject);
+            String responseString = searchResultCache.getSerialized(SearchResultCache.normalize(keywords));
+
+            // 검색 중 같은 세션에서 새 검색 요청이 와서 취소되었다면, 이전 결과는 보내지 않는다.
+            if(Thread.currentThread().isInterrupted()) {
+                return;
+            }
             session.sendMessage(new TextMessage(responseString));
         } catch(IOException e) {
             if(e instanceof JsonProcessingException) {
@@ -68,4 +70,52 @@ public class StaffWebSocketHandler implements SearchHandler {
             log.error("", e);
         }
     }
+
+    @EventListener
+    public void invalidateSearchResultCache(SearchDataUpdatedEvent event) {
+        if(ERROR_TYPE.equals(event.getType())) {
+            searchResultCache.invalidate();
+        }
+    }
+
+    private List<StaffDTO> search(String keywords) {
+
+        List<Staff> searchResult = staffService.handleSearchRequest(keywords);
+
+        List<StaffDTO> searchResultDTOList = new ArrayList<>(searchResult.size());
+        for (Staff staff : searchResult) {
+            searchResultDTOList.add(StaffDTO.entityToDTO(staff));
+        }
+
+        return searchResultDTOList;
+    }
+
+    // 앞부분 검색어의 결과에 남은 키워드 조건을 적용한다.
+    private List<StaffDTO> filterByPrefix(List<StaffDTO> prefixResults, String prefixQuery, String query) {
+
+        String[] keywords = query.split(" ");
+
+        List<StaffDTO> results = new ArrayList<>();
+        for (StaffDTO staff : prefixResults) {
+            boolean isMatched = true;
+            for (String keyword : keywords) {
+                if(!staff.getName().contains(keyword) && !staff.getDeptName().contains(keyword) && !staff.getCollegeName().contains(keyword)) {
+                    isMatched = false;
+                    break;
+                }
+            }
+
+            if(isMatched) {
+                results.add(staff);
+            }
+        }
+
+        return results;
+    }
+
+    private String serialize(List<StaffDTO> staffDTOList) throws JsonProcessingException {
+        StaffWebSocketResponseDTO responseObject = StaffWebSocketResponseDTO.builder()
+                .staffDTOList(staffDTOList).build();
+        return objectMapper.writeValueAsString(responseObject);
+    }
 }
@@ -1,9 +1,17 @@
 package com.kustacks.kuring.domain.feedback;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
 
+    @Modifying
+    @Query(value = "DELETE FROM feedback WHERE uid IN (:userIds)", nativeQuery = true)
+    int deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,41 @@
+package com.kustacks.kuring.domain.job_checkpoint;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    오래 걸리는 작업의 진행 위치
+    lastProcessedId까지 처리를 마쳤다는 뜻이며, 서버가 재시작되면 그 다음 id부터 이어서 처리한다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 32, nullable = false)
+    private String jobName;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+
+    @Column(name = "started_dt", nullable = false)
+    private LocalDateTime startedDate;
+
+    @Column(name = "updated_dt", nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Builder
+    public JobCheckpoint(String jobName, long lastProcessedId, LocalDateTime startedDate, LocalDateTime updatedDate) {
+        this.jobName = jobName;
+        this.lastProcessedId = lastProcessedId;
+        this.startedDate = startedDate;
+        this.updatedDate = updatedDate;
+    }
+}
@@ -0,0 +1,8 @@
+package com.kustacks.kuring.domain.job_checkpoint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
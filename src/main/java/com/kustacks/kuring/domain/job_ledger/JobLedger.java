@@ -0,0 +1,49 @@
+package com.kustacks.kuring.domain.job_ledger;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    주기적으로 실행하는 작업(Updater)의 마지막 실행 기록
+    서버가 재시작되어도 UpdaterJobRunner가 이 기록을 보고 작업의 실제 주기에 맞춰 실행한다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_ledger")
+public class JobLedger {
+
+    @Id
+    @Column(name = "job_name", length = 32, nullable = false)
+    private String jobName;
+
+    @Column(name = "last_started_dt", nullable = false)
+    private LocalDateTime lastStartedDate;
+
+    @Column(name = "last_finished_dt", nullable = true)
+    private LocalDateTime lastFinishedDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_outcome", length = 10, nullable = false)
+    private JobOutcome lastOutcome;
+
+    @Column(name = "last_duration_ms", nullable = true)
+    private Long lastDurationMillis;
+
+    @Column(name = "last_error", length = 255, nullable = true)
+    private String lastError;
+
+    @Column(name = "run_count", nullable = false)
+    private long runCount;
+
+    @Builder
+    public JobLedger(String jobName) {
+        this.jobName = jobName;
+        this.runCount = 0;
+    }
+}
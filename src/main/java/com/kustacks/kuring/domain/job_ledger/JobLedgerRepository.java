@@ -0,0 +1,8 @@
+package com.kustacks.kuring.domain.job_ledger;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLedgerRepository extends JpaRepository<JobLedger, String> {
+}
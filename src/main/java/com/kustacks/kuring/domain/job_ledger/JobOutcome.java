@@ -0,0 +1,7 @@
+package com.kustacks.kuring.domain.job_ledger;
+
+public enum JobOutcome {
+    RUNNING, // 실행 중 (서버가 실행 도중 종료된 경우에도 남아있음)
+    SUCCESS, // 정상 종료
+    FAILURE  // 예외로 종료
+}
@@ -7,11 +7,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
+/*
+    (category_name, article_id) 유일 키(uk_notice_category_article_id)는 @Table에 선언하지 않고, 중복 저장된 공지를 정리한 뒤 SchemaMigrator가 만든다.
+    ddl-auto=update가 중복이 남아있는 테이블에 유일 키를 만들다 실패하거나, 시작할 때마다 다시 만들지 않도록 하기 위함이다.
+ */
 @Getter @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "notice")
+@Table(name = "notice", indexes = @Index(name = "idx_notice_category_posted_at_id", columnList = "category_name, posted_at, id"))
 public class Notice {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,6 +29,10 @@ public class Notice {
     @Column(name = "posted_dt", length = 32, nullable = false)
     private String postedDate;
 
+    // posted_dt를 형식과 관계없이 정렬할 수 있도록 변환한 게시일
+    @Column(name = "posted_at", nullable = true)
+    private LocalDateTime postedAt;
+
     @Column(name = "updated_dt", length = 32, nullable = true)
     private String updatedDate;
 
@@ -35,9 +44,10 @@ public class Notice {
     private Category category;
 
     @Builder
-    public Notice(String articleId, String postedDate, String updatedDate, String subject, Category category) {
+    public Notice(String articleId, String postedDate, LocalDateTime postedAt, String updatedDate, String subject, Category category) {
         this.articleId = articleId;
         this.postedDate = postedDate;
+        this.postedAt = postedAt;
         this.updatedDate = updatedDate;
         this.subject = subject;
         this.category = category;
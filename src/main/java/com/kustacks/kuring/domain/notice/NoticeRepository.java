@@ -3,17 +3,27 @@ package com.kustacks.kuring.domain.notice;
 import com.kustacks.kuring.domain.category.Category;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Repository
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeRepositoryCustom {
 
     List<Notice> findByCategory(Category category);
     List<Notice> findByCategory(Category category, Pageable pageable);
+    List<Notice> findByCategoryAndArticleIdIn(Category category, Collection<String> articleIds);
+    List<Notice> findByCategoryAndArticleIdNotIn(Category category, Collection<String> articleIds);
+    @Query("SELECT n FROM Notice n WHERE n.category = :category " +
+            "AND (n.postedAt < :postedAt OR (n.postedAt = :postedAt AND n.id < :id)) " +
+            "ORDER BY n.postedAt DESC, n.id DESC")
+    List<Notice> findByCategoryAfter(@Param("category") Category category, @Param("postedAt") LocalDateTime postedAt, @Param("id") Long id, Pageable pageable);
     List<Notice> findBySubjectContainingOrCategoryNameContaining(String subject, String categoryName);
 
     default Map<String, Notice> findByCategoryMap(Category category) {
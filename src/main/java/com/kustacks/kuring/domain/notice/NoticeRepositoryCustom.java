@@ -0,0 +1,19 @@
+package com.kustacks.kuring.domain.notice;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NoticeRepositoryCustom {
+
+    /**
+     * JPA를 거치지 않고 JDBC batch로 공지를 upsert한다. (카테고리, articleId)가 같은 공지가 이미 있다면 그대로 둔다.
+     *
+     * @return notices 중 실제로 새로 삽입된 공지. id가 채워져 있다.
+     */
+    List<Notice> upsertAllInBatch(Collection<Notice> notices);
+
+    /**
+     * 공지를 batch-size 단위의 DELETE ... WHERE id IN (...) 문으로 삭제한다.
+     */
+    void deleteAllByIdInChunks(Collection<Long> ids);
+}
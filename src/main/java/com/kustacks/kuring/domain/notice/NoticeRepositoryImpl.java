@@ -0,0 +1,155 @@
+package com.kustacks.kuring.domain.notice;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/*
+    Notice의 id는 IDENTITY 전략이라 Hibernate가 INSERT를 batch로 묶지 못하고,
+    deleteAll은 엔티티마다 DELETE 문을 실행하므로 공지 동기화에서는 JDBC로 직접 일괄 처리한다.
+    (MariaDB에서는 rewriteBatchedStatements 설정으로 batch INSERT가 multi-row INSERT로 전송된다.)
+
+    공지는 (category_name, article_id)가 유일하므로, 동기화가 겹쳐도 같은 공지가 두 번 삽입되지 않도록 upsert로 삽입한다.
+    MariaDB는 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE를 사용하고, 이미 있는 공지는 바꾸지 않는다.
+    batch의 행별 결과는 multi-row INSERT로 합쳐지면 알 수 없으므로, upsert 전에 DB에 없던 (category_name, article_id)를
+    새로 삽입된 공지로 보고 upsert 후 그 공지들의 id를 조회한다.
+    공지 동기화는 잠금(notice-updater)을 가진 서버만 하므로, 조회와 upsert 사이에 다른 서버가 같은 공지를 삽입하지 않는다.
+ */
+public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
+
+    private static final String MARIADB_UPSERT_SQL = "INSERT INTO notice (article_id, posted_dt, posted_at, updated_dt, subject, category_name) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+    private static final String H2_UPSERT_SQL = "MERGE INTO notice n USING (SELECT CAST(? AS VARCHAR(15)) AS article_id, CAST(? AS VARCHAR(32)) AS posted_dt, CAST(? AS TIMESTAMP) AS posted_at, " +
+            "CAST(? AS VARCHAR(32)) AS updated_dt, CAST(? AS VARCHAR(128)) AS subject, CAST(? AS VARCHAR(20)) AS category_name) s " +
+            "ON n.category_name = s.category_name AND n.article_id = s.article_id " +
+            "WHEN NOT MATCHED THEN INSERT (article_id, posted_dt, posted_at, updated_dt, subject, category_name) " +
+            "VALUES (s.article_id, s.posted_dt, s.posted_at, s.updated_dt, s.subject, s.category_name)";
+    private static final String SELECT_IDS_SQL = "SELECT id, article_id FROM notice WHERE category_name = :categoryName AND article_id IN (:articleIds)";
+    private static final String DELETE_SQL = "DELETE FROM notice WHERE id IN (:ids)";
+
+    @Value("${notice.batch-size}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile String upsertSql;
+
+    public NoticeRepositoryImpl(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public List<Notice> upsertAllInBatch(Collection<Notice> notices) {
+
+        if(notices.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // key: 카테고리명, value: 그 카테고리에서 DB에 없던 공지
+        Map<String, List<Notice>> absentNoticesMap = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Notice>> entry : groupByCategoryName(notices).entrySet()) {
+            Set<String> existingArticleIds = findIds(entry.getKey(), entry.getValue()).keySet();
+            for (Notice notice : entry.getValue()) {
+                if(!existingArticleIds.contains(notice.getArticleId())) {
+                    absentNoticesMap.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(notice);
+                }
+            }
+        }
+
+        if(absentNoticesMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Notice> absentNotices = new ArrayList<>();
+        absentNoticesMap.values().forEach(absentNotices::addAll);
+        jdbcTemplate.batchUpdate(getUpsertSql(), absentNotices, batchSize, (ps, notice) -> {
+            ps.setString(1, notice.getArticleId());
+            ps.setString(2, notice.getPostedDate());
+            ps.setTimestamp(3, notice.getPostedAt() == null ? null : Timestamp.valueOf(notice.getPostedAt()));
+            ps.setString(4, notice.getUpdatedDate());
+            ps.setString(5, notice.getSubject());
+            ps.setString(6, notice.getCategory().getName());
+        });
+
+        List<Notice> insertedNotices = new ArrayList<>(absentNotices.size());
+        for (Map.Entry<String, List<Notice>> entry : absentNoticesMap.entrySet()) {
+            Map<String, Long> insertedIds = findIds(entry.getKey(), entry.getValue());
+            for (Notice notice : entry.getValue()) {
+                Long id = insertedIds.get(notice.getArticleId());
+                if(id != null) {
+                    notice.setId(id);
+                    insertedNotices.add(notice);
+                }
+            }
+        }
+
+        return insertedNotices;
+    }
+
+    @Override
+    public void deleteAllByIdInChunks(Collection<Long> ids) {
+
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), batchSize));
+        for (Long id : ids) {
+            chunk.add(id);
+            if(chunk.size() == batchSize) {
+                namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", chunk));
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+
+        if(!chunk.isEmpty()) {
+            namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", chunk));
+        }
+    }
+
+    private Map<String, List<Notice>> groupByCategoryName(Collection<Notice> notices) {
+
+        Map<String, List<Notice>> noticesMap = new LinkedHashMap<>();
+        for (Notice notice : notices) {
+            noticesMap.computeIfAbsent(notice.getCategory().getName(), k -> new ArrayList<>()).add(notice);
+        }
+
+        return noticesMap;
+    }
+
+    /**
+     * notices 중 DB에 있는 공지의 id를 batch-size 단위로 조회한다.
+     *
+     * @return key: articleId, value: id
+     */
+    private Map<String, Long> findIds(String categoryName, List<Notice> notices) {
+
+        Map<String, Long> ids = new HashMap<>();
+        for (int i=0; i<notices.size(); i+=batchSize) {
+            List<String> articleIds = new ArrayList<>(batchSize);
+            for (Notice notice : notices.subList(i, Math.min(i + batchSize, notices.size()))) {
+                articleIds.add(notice.getArticleId());
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource("categoryName", categoryName).addValue("articleIds", articleIds);
+            namedParameterJdbcTemplate.query(SELECT_IDS_SQL, params, rs -> {
+                ids.put(rs.getString("article_id"), rs.getLong("id"));
+            });
+        }
+
+        return ids;
+    }
+
+    private String getUpsertSql() {
+
+        if(upsertSql == null) {
+            String databaseName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            upsertSql = "H2".equalsIgnoreCase(databaseName) ? H2_UPSERT_SQL : MARIADB_UPSERT_SQL;
+        }
+
+        return upsertSql;
+    }
+}
@@ -0,0 +1,65 @@
+package com.kustacks.kuring.domain.notice_outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    FCM으로 보내야 할 새 공지 알림
+    새 공지와 같은 트랜잭션에서 저장되며, NoticeOutboxDispatcher가 전송한 뒤 상태를 바꾼다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "notice_outbox", indexes = @Index(name = "idx_notice_outbox_status_next_attempt_dt", columnList = "status, next_attempt_dt"))
+public class NoticeOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", unique = true, nullable = false)
+    private Long id;
+
+    @Column(name = "article_id", length = 15, nullable = false)
+    private String articleId;
+
+    @Column(name = "posted_dt", length = 32, nullable = false)
+    private String postedDate;
+
+    @Column(name = "subject", length = 128, nullable = false)
+    private String subject;
+
+    @Column(name = "category_name", length = 20, nullable = false)
+    private String categoryName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    private NoticeOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_dt", nullable = false)
+    private LocalDateTime nextAttemptDate;
+
+    @Column(name = "created_dt", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "sent_dt", nullable = true)
+    private LocalDateTime sentDate;
+
+    @Builder
+    public NoticeOutbox(String articleId, String postedDate, String subject, String categoryName, LocalDateTime createdDate) {
+        this.articleId = articleId;
+        this.postedDate = postedDate;
+        this.subject = subject;
+        this.categoryName = categoryName;
+        this.status = NoticeOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptDate = createdDate;
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kustacks.kuring.domain.notice_outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NoticeOutboxRepository extends JpaRepository<NoticeOutbox, Long> {
+
+    List<NoticeOutbox> findByStatusAndNextAttemptDateLessThanEqualOrderByIdAsc(NoticeOutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NoticeOutbox o WHERE o.status = :status AND o.sentDate < :before")
+    int deleteByStatusAndSentDateBefore(@Param("status") NoticeOutboxStatus status, @Param("before") LocalDateTime before);
+}
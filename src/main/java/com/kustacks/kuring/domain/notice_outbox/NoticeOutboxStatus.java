@@ -0,0 +1,7 @@
+package com.kustacks.kuring.domain.notice_outbox;
+
+public enum NoticeOutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    SENT,    // 전송 완료
+    FAILED   // 최대 재시도 횟수를 넘겨 전송 포기
+}
@@ -0,0 +1,49 @@
+package com.kustacks.kuring.domain.notice_watermark;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    카테고리별로 마지막으로 DB와 동기화한 공지 목록의 요약 정보
+    contentHash는 해당 시점 게시판에 존재하던 articleId 전체 목록의 해시값이다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "notice_watermark")
+public class NoticeWatermark {
+
+    @Id
+    @Column(name = "category_name", length = 20, nullable = false)
+    private String categoryName;
+
+    @Column(name = "latest_article_id", length = 15, nullable = true)
+    private String latestArticleId;
+
+    @Column(name = "latest_posted_dt", length = 32, nullable = true)
+    private String latestPostedDate;
+
+    @Column(name = "article_count", nullable = false)
+    private int articleCount;
+
+    @Column(name = "content_hash", length = 32, nullable = false)
+    private String contentHash;
+
+    @Column(name = "synced_dt", nullable = false)
+    private LocalDateTime syncedDate;
+
+    @Builder
+    public NoticeWatermark(String categoryName, String latestArticleId, String latestPostedDate, int articleCount, String contentHash, LocalDateTime syncedDate) {
+        this.categoryName = categoryName;
+        this.latestArticleId = latestArticleId;
+        this.latestPostedDate = latestPostedDate;
+        this.articleCount = articleCount;
+        this.contentHash = contentHash;
+        this.syncedDate = syncedDate;
+    }
+}
@@ -0,0 +1,8 @@
+package com.kustacks.kuring.domain.notice_watermark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NoticeWatermarkRepository extends JpaRepository<NoticeWatermark, String> {
+}
@@ -0,0 +1,32 @@
+package com.kustacks.kuring.domain.scheduler_lock;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    여러 서버 중 한 서버만 주기 작업을 실행하도록 하기 위한 임대(lease) 방식의 잠금
+    owner가 leaseUntil까지 잠금을 갖고, 잠금을 새로 얻을 때마다 fencingToken이 1씩 증가한다.
+    행은 SchedulerLockRepositoryImpl이 JDBC로 직접 생성, 갱신한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 32, nullable = false)
+    private String lockName;
+
+    @Column(name = "owner", length = 100, nullable = false)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+}
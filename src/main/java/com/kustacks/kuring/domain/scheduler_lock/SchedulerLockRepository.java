@@ -0,0 +1,8 @@
+package com.kustacks.kuring.domain.scheduler_lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String>, SchedulerLockRepositoryCustom {
+}
@@ -0,0 +1,31 @@
+package com.kustacks.kuring.domain.scheduler_lock;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepositoryCustom {
+
+    /**
+     * 잠금이 비어 있거나 만료되었다면 owner가 leaseUntil까지 잠금을 갖는다.
+     *
+     * @return 새로 발급된 fencing token, 잠금을 얻지 못했다면 null
+     */
+    Long tryAcquire(String lockName, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * owner가 fencingToken으로 갖고 있는 잠금의 만료 시각을 연장한다.
+     *
+     * @return 잠금을 잃어 연장하지 못했다면 false
+     */
+    boolean renew(String lockName, String owner, long fencingToken, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * owner가 fencingToken으로 갖고 있는 잠금을 바로 만료시킨다.
+     */
+    void release(String lockName, String owner, long fencingToken, LocalDateTime now);
+
+    /**
+     * 잠금 행을 SELECT ... FOR UPDATE로 읽어 owner가 fencingToken으로 아직 잠금을 갖고 있는지 확인한다.
+     * 트랜잭션 안에서 호출하면 트랜잭션이 끝날 때까지 다른 서버가 잠금을 가져갈 수 없다.
+     */
+    boolean isHeld(String lockName, String owner, long fencingToken, LocalDateTime now);
+}
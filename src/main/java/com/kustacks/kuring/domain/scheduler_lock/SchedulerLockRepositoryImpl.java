@@ -0,0 +1,70 @@
+package com.kustacks.kuring.domain.scheduler_lock;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    잠금 획득은 조건부 UPDATE 한 번(행이 없다면 INSERT 한 번)으로 처리해야 두 서버가 동시에 잠금을 얻지 않으므로,
+    JPA의 조회 후 저장 대신 JDBC로 직접 실행한다.
+ */
+public class SchedulerLockRepositoryImpl implements SchedulerLockRepositoryCustom {
+
+    private static final String ACQUIRE_SQL = "UPDATE scheduler_lock SET owner = ?, lease_until = ?, fencing_token = fencing_token + 1 " +
+            "WHERE lock_name = ? AND lease_until <= ?";
+    private static final String INSERT_SQL = "INSERT INTO scheduler_lock (lock_name, owner, lease_until, fencing_token) VALUES (?, ?, ?, 1)";
+    private static final String SELECT_TOKEN_SQL = "SELECT fencing_token FROM scheduler_lock WHERE lock_name = ? AND owner = ?";
+    private static final String RENEW_SQL = "UPDATE scheduler_lock SET lease_until = ? " +
+            "WHERE lock_name = ? AND owner = ? AND fencing_token = ? AND lease_until > ?";
+    private static final String RELEASE_SQL = "UPDATE scheduler_lock SET lease_until = ? " +
+            "WHERE lock_name = ? AND owner = ? AND fencing_token = ?";
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT owner, fencing_token, lease_until FROM scheduler_lock WHERE lock_name = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerLockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Long tryAcquire(String lockName, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+
+        int updatedCount = jdbcTemplate.update(ACQUIRE_SQL, owner, Timestamp.valueOf(leaseUntil), lockName, Timestamp.valueOf(now));
+        if(updatedCount == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, lockName, owner, Timestamp.valueOf(leaseUntil));
+            } catch(DuplicateKeyException e) {
+                // 다른 서버가 잠금을 갖고 있거나, 같은 순간에 먼저 행을 만들었다.
+                return null;
+            }
+        }
+
+        // owner마다 서버 인스턴스를 구분하는 값이 들어가므로, 잠금을 얻은 직후에는 owner로 조회한 토큰이 곧 발급받은 토큰이다.
+        List<Long> tokens = jdbcTemplate.queryForList(SELECT_TOKEN_SQL, Long.class, lockName, owner);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+
+    @Override
+    public boolean renew(String lockName, String owner, long fencingToken, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(leaseUntil), lockName, owner, fencingToken, Timestamp.valueOf(now)) == 1;
+    }
+
+    @Override
+    public void release(String lockName, String owner, long fencingToken, LocalDateTime now) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(now), lockName, owner, fencingToken);
+    }
+
+    @Override
+    public boolean isHeld(String lockName, String owner, long fencingToken, LocalDateTime now) {
+
+        List<Boolean> results = jdbcTemplate.query(SELECT_FOR_UPDATE_SQL, (rs, rowNum) ->
+                owner.equals(rs.getString("owner"))
+                        && rs.getLong("fencing_token") == fencingToken
+                        && rs.getTimestamp("lease_until").toLocalDateTime().isAfter(now), lockName);
+
+        return !results.isEmpty() && results.get(0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kustacks.kuring.domain.schema_migration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/*
+    SchemaMigrator가 적용한 일회성 마이그레이션의 기록
+    기록이 있는 마이그레이션은 서버가 다시 시작되어도 다시 실행하지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "schema_migration")
+public class SchemaMigration {
+
+    @Id
+    @Column(name = "migration_name", length = 64, nullable = false)
+    private String migrationName;
+
+    @Column(name = "applied_dt", nullable = false)
+    private LocalDateTime appliedDate;
+
+    @Builder
+    public SchemaMigration(String migrationName, LocalDateTime appliedDate) {
+        this.migrationName = migrationName;
+        this.appliedDate = appliedDate;
+    }
+}
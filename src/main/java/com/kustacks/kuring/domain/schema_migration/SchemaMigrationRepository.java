@@ -0,0 +1,8 @@
+package com.kustacks.kuring.domain.schema_migration;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchemaMigrationRepository extends JpaRepository<SchemaMigration, String> {
+}
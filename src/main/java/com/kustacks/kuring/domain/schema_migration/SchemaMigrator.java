@@ -0,0 +1,109 @@
+package com.kustacks.kuring.domain.schema_migration;
+
+import com.kustacks.kuring.util.converter.PostedDateToLocalDateTimeConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+    기존 데이터를 한 번만 변환해야 하는 마이그레이션을 서버 시작 시 실행하고, schema_migration에 기록한다.
+
+    data.sql은 서버가 시작될 때마다 실행되므로, 전체 테이블을 읽는 변환을 넣으면 매번 다시 실행된다.
+    여기 등록한 마이그레이션은 기록이 없을 때만 실행하며, 등록한 순서대로 실행한다.
+    Hibernate가 스키마를 갱신한 뒤(ddl-auto=update), 스케줄러가 시작되기 전에 실행된다.
+    DB에 관계없이 실행할 수 있도록 DB별 문법(STR_TO_DATE 등)은 쓰지 않고, 변환은 Java에서 한다.
+    서버 여러 대가 동시에 시작해도 문제가 없도록 각 마이그레이션은 다시 실행해도 결과가 같아야 한다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrator {
+
+    private static final String SELECT_NOTICE_WITHOUT_POSTED_AT_SQL = "SELECT id, posted_dt FROM notice WHERE posted_at IS NULL";
+    private static final String UPDATE_NOTICE_POSTED_AT_SQL = "UPDATE notice SET posted_at = ? WHERE id = ?";
+    private static final String DELETE_DUPLICATE_NOTICE_SQL = "DELETE FROM notice WHERE id NOT IN (" +
+            "SELECT id FROM (SELECT MIN(id) AS id FROM notice GROUP BY category_name, article_id) kept_notice)";
+    private static final String CREATE_NOTICE_UNIQUE_INDEX_SQL = "CREATE UNIQUE INDEX IF NOT EXISTS uk_notice_category_article_id ON notice (category_name, article_id)";
+
+    private final SchemaMigrationRepository schemaMigrationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostedDateToLocalDateTimeConverter postedDateConverter;
+    private final int batchSize;
+
+    // key: 마이그레이션 이름, value: 마이그레이션
+    private final Map<String, Runnable> migrations;
+
+    public SchemaMigrator(SchemaMigrationRepository schemaMigrationRepository,
+                          JdbcTemplate jdbcTemplate,
+                          PostedDateToLocalDateTimeConverter postedDateConverter,
+                          @Value("${notice.batch-size}") int batchSize) {
+
+        this.schemaMigrationRepository = schemaMigrationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postedDateConverter = postedDateConverter;
+        this.batchSize = batchSize;
+
+        this.migrations = new LinkedHashMap<>();
+        migrations.put("notice-posted-at-backfill", this::backfillNoticePostedAt);
+        migrations.put("notice-category-article-id-unique", this::addNoticeUniqueKey);
+    }
+
+    @PostConstruct
+    public void migrate() {
+
+        for (Map.Entry<String, Runnable> migration : migrations.entrySet()) {
+            String migrationName = migration.getKey();
+            if(schemaMigrationRepository.existsById(migrationName)) {
+                continue;
+            }
+
+            log.info("[SchemaMigrator] {} 마이그레이션 시작", migrationName);
+            migration.getValue().run();
+
+            try {
+                schemaMigrationRepository.save(new SchemaMigration(migrationName, LocalDateTime.now()));
+            } catch(DataIntegrityViolationException e) {
+                log.info("[SchemaMigrator] {} 마이그레이션은 다른 서버가 이미 기록했습니다.", migrationName);
+            }
+            log.info("[SchemaMigrator] {} 마이그레이션 완료", migrationName);
+        }
+    }
+
+    /**
+     * posted_at 컬럼 추가 이전에 저장된 공지의 posted_dt를 변환해서 채운다.
+     */
+    private void backfillNoticePostedAt() {
+
+        List<Object[]> updates = new LinkedList<>();
+        jdbcTemplate.query(SELECT_NOTICE_WITHOUT_POSTED_AT_SQL, rs -> {
+            LocalDateTime postedAt = postedDateConverter.convert(rs.getString("posted_dt"));
+            if(postedAt != null) {
+                updates.add(new Object[]{Timestamp.valueOf(postedAt), rs.getLong("id")});
+            }
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_NOTICE_POSTED_AT_SQL, updates, batchSize, (ps, update) -> {
+            ps.setTimestamp(1, (Timestamp) update[0]);
+            ps.setLong(2, (Long) update[1]);
+        });
+
+        log.info("[SchemaMigrator] 게시일을 변환한 공지 수 = {}", updates.size());
+    }
+
+    /**
+     * 중복 저장된 공지를 정리하고(가장 먼저 저장된 공지만 남김) (category_name, article_id) 유일 키를 만든다.
+     */
+    private void addNoticeUniqueKey() {
+
+        int deletedCount = jdbcTemplate.update(DELETE_DUPLICATE_NOTICE_SQL);
+        jdbcTemplate.execute(CREATE_NOTICE_UNIQUE_INDEX_SQL);
+
+        log.info("[SchemaMigrator] 삭제한 중복 공지 수 = {}", deletedCount);
+    }
+}
@@ -1,13 +1,27 @@
 package com.kustacks.kuring.domain.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByToken(String token);
 
     @Transactional
     void deleteByToken(String token);
+
+    @Query("SELECT u.id AS id, u.token AS token FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserToken> findTokensAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
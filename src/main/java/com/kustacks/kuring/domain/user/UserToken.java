@@ -0,0 +1,11 @@
+package com.kustacks.kuring.domain.user;
+
+/*
+    userCategories를 함께 읽지 않도록 id와 토큰만 조회할 때 사용한다.
+ */
+public interface UserToken {
+
+    Long getId();
+
+    String getToken();
+}
@@ -2,11 +2,19 @@ package com.kustacks.kuring.domain.user_category;
 
 import com.kustacks.kuring.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface UserCategoryRepository extends JpaRepository<UserCategory, Long> {
+public interface UserCategoryRepository extends JpaRepository<UserCategory, Long>, UserCategoryRepositoryCustom {
     List<UserCategory> findAllByUser(User user);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_category WHERE user_token IN (:tokens)", nativeQuery = true)
+    int deleteAllByUserTokenIn(@Param("tokens") Collection<String> tokens);
 }
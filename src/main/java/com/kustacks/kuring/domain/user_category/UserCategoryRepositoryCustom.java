@@ -0,0 +1,12 @@
+package com.kustacks.kuring.domain.user_category;
+
+import java.util.Collection;
+
+public interface UserCategoryRepositoryCustom {
+
+    /**
+     * JPA를 거치지 않고 JDBC batch로 구독 카테고리를 삽입한다.
+     * 삽입된 구독 카테고리의 id는 채워지지 않는다.
+     */
+    void insertAllInBatch(Collection<UserCategory> userCategories);
+}
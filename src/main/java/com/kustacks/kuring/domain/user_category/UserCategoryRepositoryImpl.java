@@ -0,0 +1,32 @@
+package com.kustacks.kuring.domain.user_category;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+/*
+    UserCategory의 id는 IDENTITY 전략이라 Hibernate가 INSERT를 batch로 묶지 못하므로 JDBC로 직접 일괄 삽입한다.
+ */
+public class UserCategoryRepositoryImpl implements UserCategoryRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO user_category (user_token, category_name) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserCategoryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAllInBatch(Collection<UserCategory> userCategories) {
+
+        if(userCategories.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, userCategories, userCategories.size(), (ps, userCategory) -> {
+            ps.setString(1, userCategory.getUser().getToken());
+            ps.setString(2, userCategory.getCategory().getName());
+        });
+    }
+}
@@ -18,6 +18,8 @@ public enum ErrorCode {
     API_ADMIN_INVALID_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 type입니다."),
     API_ADMIN_INVALID_TITLE(HttpStatus.BAD_REQUEST, "title은 최소 1자 이상이어야 합니다."),
     API_ADMIN_INVALID_BODY(HttpStatus.BAD_REQUEST, "body는 최소 1자 이상이어야 합니다."),
+    API_ADMIN_INVALID_JOB(HttpStatus.BAD_REQUEST, "관리자 요청 - 존재하지 않는 작업입니다."),
+    API_ADMIN_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "관리자 요청 - 이미 실행 중인 작업입니다."),
 
 
     API_NOTICE_NOT_EXIST_CATEGORY(HttpStatus.BAD_REQUEST, "해당 공지 카테고리를 지원하지 않습니다."),
@@ -73,6 +75,9 @@ public enum ErrorCode {
     FB_FAIL_UNSUBSCRIBE("카테고리 구독 해제에 실패했습니다."),
     FB_FAIL_ROLLBACK("카테고리 편집 중 transaction fail이 발생했고, 이를 복구하는데 실패했습니다."),
     FB_FAIL_SEND("FCM 메세지 전송에 실패했습니다."),
+    FB_FAIL_VERIFY_TOKEN("FCM 토큰 검증 요청에 실패했습니다."),
+
+    SCHEDULER_LOCK_LOST("주기 작업의 잠금을 다른 서버가 가져가 작업을 중단합니다."),
 
     WS_CANNOT_PARSE_JSON("JSON 문자열을 객체로 변환하는데 실패했습니다."),
     WS_CANNOT_STRINGIFY("객체를 JSON 문자열로 변경하는데 실패했습니다."),
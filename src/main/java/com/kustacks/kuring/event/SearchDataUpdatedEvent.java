@@ -0,0 +1,16 @@
+package com.kustacks.kuring.event;
+
+import lombok.Getter;
+
+/*
+    검색 대상 데이터(공지, 교직원)가 갱신되었을 때 발행한다. type은 웹소켓 검색 요청의 type과 같다.
+ */
+@Getter
+public class SearchDataUpdatedEvent {
+
+    private final String type;
+
+    public SearchDataUpdatedEvent(String type) {
+        this.type = type;
+    }
+}
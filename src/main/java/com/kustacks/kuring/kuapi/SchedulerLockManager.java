@@ -0,0 +1,242 @@
+package com.kustacks.kuring.kuapi;
+
+import com.kustacks.kuring.domain.scheduler_lock.SchedulerLockRepository;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+    서버를 여러 대 띄워도 주기 작업(공지 동기화, 알림 전송, 교직원/토큰 갱신)은 한 서버만 실행하도록
+    scheduler_lock 테이블의 임대(lease) 잠금을 관리한다.
+
+    1. tryAcquire로 잠금을 얻으면 lock.lease-duration 동안 유효한 Lease를 받는다.
+    2. 작업이 길어져도 잠금을 잃지 않도록, 갖고 있는 잠금은 lock.renew-interval마다 연장한다.
+    3. 연장에 실패하거나(다른 서버가 만료된 잠금을 가져감) 만료 시각이 지나면 Lease는 잃은 것으로 본다.
+    4. 서버가 잠금을 가진 채 종료되면 lease-duration이 지난 뒤 다른 서버가 잠금을 가져간다.
+    5. 잠금을 계속 갖고 있는 작업(공지 동기화, 알림 전송)은 keepOrAcquire를 사용한다. 다른 서버가 잠금을 갖고 있다면
+       lock.follower-retry-interval 동안은 DB에 잠금을 요청하지 않으므로, 매 주기마다 잠금 획득 쿼리를 실행하지 않는다.
+
+    GC 등으로 서버가 멈춘 사이 잠금이 넘어갈 수 있으므로, DB에 쓰는 작업은 같은 트랜잭션 안에서
+    validate로 fencing token을 확인한 뒤 반영한다. 만료 시각은 각 서버의 시계로 계산하므로 서버 간 시계는 동기화되어 있어야 한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLockManager {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    private final String owner;
+    private final long leaseDuration;
+    private final long followerRetryInterval;
+
+    private final Set<Lease> heldLeases;
+
+    // keepOrAcquire에서 잠금 이름별로 다음에 잠금을 요청할 시각
+    private final Map<String, Long> nextAcquireAts;
+
+    public SchedulerLockManager(SchedulerLockRepository schedulerLockRepository,
+                                @Value("${lock.lease-duration}") long leaseDuration,
+                                @Value("${lock.follower-retry-interval}") long followerRetryInterval) {
+
+        this.schedulerLockRepository = schedulerLockRepository;
+
+        this.owner = hostName() + "/" + UUID.randomUUID();
+        this.leaseDuration = leaseDuration;
+        this.followerRetryInterval = followerRetryInterval;
+
+        this.heldLeases = ConcurrentHashMap.newKeySet();
+        this.nextAcquireAts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * lockName 잠금을 얻는다. 다른 서버가 잠금을 갖고 있거나 DB 오류가 발생하면 빈 Optional을 반환한다.
+     * 받은 Lease는 작업이 끝나면 반드시 close해야 한다.
+     */
+    public Optional<Lease> tryAcquire(String lockName) {
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseDuration));
+
+        Long fencingToken;
+        try {
+            fencingToken = schedulerLockRepository.tryAcquire(lockName, owner, now, leaseUntil);
+        } catch(DataAccessException e) {
+            log.error("[SchedulerLockManager] {} 잠금 획득 중 DB 오류가 발생했습니다.", lockName, e);
+            return Optional.empty();
+        }
+
+        if(fencingToken == null) {
+            log.debug("[SchedulerLockManager] {} 잠금을 다른 서버가 갖고 있습니다.", lockName);
+            return Optional.empty();
+        }
+
+        Lease lease = new Lease(lockName, fencingToken, expiresAt(startedAt));
+        heldLeases.add(lease);
+        log.info("[SchedulerLockManager] {} 잠금 획득. owner = {}, token = {}", lockName, owner, fencingToken);
+
+        return Optional.of(lease);
+    }
+
+    /**
+     * heldLease가 유효하면 그대로 반환하고, 아니면 lockName 잠금을 새로 얻는다.
+     * 잠금을 얻지 못했다면 lock.follower-retry-interval이 지날 때까지는 DB에 묻지 않고 빈 Optional을 반환한다.
+     * 받은 Lease는 close하지 않고 계속 갖고 있으며, 서버가 종료될 때 반납된다.
+     */
+    public Optional<Lease> keepOrAcquire(String lockName, Lease heldLease) {
+
+        if(heldLease != null && !heldLease.isLost()) {
+            return Optional.of(heldLease);
+        }
+
+        long now = System.currentTimeMillis();
+        Long nextAcquireAt = nextAcquireAts.get(lockName);
+        if(nextAcquireAt != null && now < nextAcquireAt) {
+            return Optional.empty();
+        }
+
+        Optional<Lease> acquiredLease = tryAcquire(lockName);
+        if(acquiredLease.isEmpty()) {
+            nextAcquireAts.put(lockName, now + followerRetryInterval);
+        } else {
+            nextAcquireAts.remove(lockName);
+        }
+
+        return acquiredLease;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면, 잠금을 여전히 갖고 있는지 확인하고 트랜잭션이 끝날 때까지 잠금 행을 붙잡아 둔다.
+     */
+    public void validate(Lease lease) {
+
+        if(lease.isLost() || !schedulerLockRepository.isHeld(lease.lockName, owner, lease.fencingToken, LocalDateTime.now())) {
+            lease.lost = true;
+            throw new InternalLogicException(ErrorCode.SCHEDULER_LOCK_LOST);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${lock.renew-interval}")
+    public void renewLeases() {
+
+        for (Lease lease : heldLeases) {
+            if(lease.isLost()) {
+                heldLeases.remove(lease);
+                continue;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                if(schedulerLockRepository.renew(lease.lockName, owner, lease.fencingToken, now, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseDuration)))) {
+                    lease.expiresAt = expiresAt(startedAt);
+                } else {
+                    lease.lost = true;
+                    heldLeases.remove(lease);
+                    log.warn("[SchedulerLockManager] {} 잠금을 잃었습니다. token = {}", lease.lockName, lease.fencingToken);
+                }
+            } catch(DataAccessException e) {
+                // 만료 시각 전까지는 다음 회차에 다시 연장을 시도한다.
+                log.error("[SchedulerLockManager] {} 잠금 연장 중 DB 오류가 발생했습니다.", lease.lockName, e);
+            }
+        }
+    }
+
+    /**
+     * 서버가 정상 종료될 때 갖고 있는 잠금을 반납해서, 다른 서버가 만료를 기다리지 않고 바로 가져가게 한다.
+     */
+    @PreDestroy
+    public void releaseAll() {
+        for (Lease lease : heldLeases) {
+            release(lease);
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private void release(Lease lease) {
+
+        heldLeases.remove(lease);
+        if(lease.isLost()) {
+            return;
+        }
+
+        lease.lost = true;
+        try {
+            schedulerLockRepository.release(lease.lockName, owner, lease.fencingToken, LocalDateTime.now());
+            log.info("[SchedulerLockManager] {} 잠금 반납. token = {}", lease.lockName, lease.fencingToken);
+        } catch(DataAccessException e) {
+            log.error("[SchedulerLockManager] {} 잠금 반납 중 DB 오류가 발생했습니다. 만료 후 다른 서버가 가져갑니다.", lease.lockName, e);
+        }
+    }
+
+    private long expiresAt(long startedAt) {
+        return startedAt + leaseDuration;
+    }
+
+    private static String hostName() {
+
+        String dyno = System.getenv("DYNO");
+        if(dyno != null && !dyno.isEmpty()) {
+            return dyno;
+        }
+
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch(UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    public class Lease implements AutoCloseable {
+
+        private final String lockName;
+        private final long fencingToken;
+
+        private volatile long expiresAt;
+        private volatile boolean lost;
+
+        private Lease(String lockName, long fencingToken, long expiresAt) {
+            this.lockName = lockName;
+            this.fencingToken = fencingToken;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getLockName() {
+            return lockName;
+        }
+
+        public long getFencingToken() {
+            return fencingToken;
+        }
+
+        /**
+         * 연장에 실패했거나 만료 시각이 지나 다른 서버가 잠금을 가져갔을 수 있다면 true
+         */
+        public boolean isLost() {
+            return lost || System.currentTimeMillis() >= expiresAt;
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+}
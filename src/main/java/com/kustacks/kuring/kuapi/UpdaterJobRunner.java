@@ -0,0 +1,214 @@
+package com.kustacks.kuring.kuapi;
+
+import com.kustacks.kuring.domain.job_ledger.JobLedger;
+import com.kustacks.kuring.domain.job_ledger.JobLedgerRepository;
+import com.kustacks.kuring.domain.job_ledger.JobOutcome;
+import com.kustacks.kuring.kuapi.staff.StaffUpdater;
+import com.kustacks.kuring.kuapi.user.UserUpdater;
+import io.sentry.Sentry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    주기가 긴 작업(교직원 갱신, 토큰 검증)을 job_ledger의 실행 기록에 따라 실행한다.
+
+    @Scheduled(fixedRate)는 서버가 시작될 때마다 바로 실행되므로, 재배포할 때마다 30일 주기의 작업이 다시 실행되었다.
+    대신 job.check-delay마다 실행 기록을 확인해서
+    1. 기록이 없거나, 마지막 시작 후 작업 주기가 지났다면 실행한다.
+    2. 마지막 실행이 실패했다면 job.failure-retry-delay 후에 다시 실행한다.
+    3. 실행 중으로 남아있는 기록은 서버가 실행 도중 종료된 것이므로 다시 실행한다.
+    같은 작업은 동시에 하나만 실행하며, 관리자가 runNow로 바로 실행할 수도 있다.
+    서버가 여러 대라면 작업별 잠금(job-작업 이름)을 얻은 서버만 실행하고, 잠금을 얻은 뒤 실행 기록을 다시 읽어
+    그 사이 다른 서버가 이미 실행한 작업은 건너뛴다.
+ */
+@Slf4j
+@Component
+public class UpdaterJobRunner {
+
+    public static final String STAFF_JOB = "staff";
+    public static final String USER_JOB = "user";
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final JobLedgerRepository jobLedgerRepository;
+    private final SchedulerLockManager schedulerLockManager;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, Job> jobs;
+    private final Set<String> runningJobNames;
+    private final Duration failureRetryDelay;
+
+    public UpdaterJobRunner(JobLedgerRepository jobLedgerRepository,
+                            SchedulerLockManager schedulerLockManager,
+                            ThreadPoolTaskExecutor updaterJobExecutor,
+                            StaffUpdater staffUpdater,
+                            UserUpdater userUpdater,
+                            @Value("${job.staff-interval}") long staffInterval,
+                            @Value("${job.user-interval}") long userInterval,
+                            @Value("${job.failure-retry-delay}") long failureRetryDelay) {
+
+        this.jobLedgerRepository = jobLedgerRepository;
+        this.schedulerLockManager = schedulerLockManager;
+        this.executor = updaterJobExecutor;
+
+        this.jobs = new LinkedHashMap<>();
+        jobs.put(STAFF_JOB, new Job(STAFF_JOB, staffUpdater, Duration.ofMillis(staffInterval)));
+        jobs.put(USER_JOB, new Job(USER_JOB, userUpdater, Duration.ofMillis(userInterval)));
+
+        this.runningJobNames = ConcurrentHashMap.newKeySet();
+        this.failureRetryDelay = Duration.ofMillis(failureRetryDelay);
+    }
+
+    @Scheduled(fixedDelayString = "${job.check-delay}", initialDelayString = "${job.initial-delay}")
+    public void runDueJobs() {
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Job job : jobs.values()) {
+            if(runningJobNames.contains(job.name)) {
+                continue;
+            }
+
+            JobLedger ledger = jobLedgerRepository.findById(job.name).orElse(null);
+            if(isDue(job, ledger, now)) {
+                submit(job, false);
+            }
+        }
+    }
+
+    public boolean hasJob(String jobName) {
+        return jobs.containsKey(jobName);
+    }
+
+    /**
+     * 실행 기록과 관계없이 작업을 바로 실행한다.
+     *
+     * @return 이미 실행 중이라 실행하지 않았다면 false
+     */
+    public boolean runNow(String jobName) {
+
+        Job job = jobs.get(jobName);
+        if(job == null) {
+            throw new IllegalArgumentException("존재하지 않는 작업입니다. " + jobName);
+        }
+
+        log.info("[UpdaterJobRunner] {} 작업 수동 실행 요청", jobName);
+        return submit(job, true);
+    }
+
+    public Optional<JobLedger> getLedger(String jobName) {
+        return jobLedgerRepository.findById(jobName);
+    }
+
+    private boolean isDue(Job job, JobLedger ledger, LocalDateTime now) {
+
+        if(ledger == null) {
+            return true;
+        }
+
+        switch(ledger.getLastOutcome()) {
+            case RUNNING:
+                return true;
+            case FAILURE:
+                Duration retryDelay = failureRetryDelay.compareTo(job.interval) < 0 ? failureRetryDelay : job.interval;
+                return !ledger.getLastStartedDate().plus(retryDelay).isAfter(now);
+            default:
+                return !ledger.getLastStartedDate().plus(job.interval).isAfter(now);
+        }
+    }
+
+    private boolean submit(Job job, boolean isForced) {
+
+        if(!runningJobNames.add(job.name)) {
+            log.info("[UpdaterJobRunner] {} 작업이 이미 실행 중입니다.", job.name);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> run(job, isForced));
+        } catch(RuntimeException e) {
+            runningJobNames.remove(job.name);
+            throw e;
+        }
+
+        return true;
+    }
+
+    private void run(Job job, boolean isForced) {
+
+        Optional<SchedulerLockManager.Lease> acquiredLease = schedulerLockManager.tryAcquire("job-" + job.name);
+        if(acquiredLease.isEmpty()) {
+            runningJobNames.remove(job.name);
+            log.info("[UpdaterJobRunner] 다른 서버가 {} 작업을 실행 중입니다.", job.name);
+            return;
+        }
+
+        try(SchedulerLockManager.Lease lease = acquiredLease.get()) {
+            JobLedger ledger = jobLedgerRepository.findById(job.name).orElse(null);
+            if(!isForced && !isDue(job, ledger, LocalDateTime.now())) {
+                log.info("[UpdaterJobRunner] 다른 서버가 {} 작업을 이미 실행했습니다.", job.name);
+                return;
+            }
+
+            if(ledger == null) {
+                ledger = JobLedger.builder().jobName(job.name).build();
+            }
+
+            LocalDateTime startedDate = LocalDateTime.now();
+            ledger.setLastStartedDate(startedDate);
+            ledger.setLastFinishedDate(null);
+            ledger.setLastOutcome(JobOutcome.RUNNING);
+            ledger.setLastDurationMillis(null);
+            ledger.setLastError(null);
+            ledger.setRunCount(ledger.getRunCount() + 1);
+            ledger = jobLedgerRepository.save(ledger);
+
+            long startedAt = System.currentTimeMillis();
+            try {
+                job.updater.update();
+                ledger.setLastOutcome(JobOutcome.SUCCESS);
+            } catch(RuntimeException e) {
+                log.error("[UpdaterJobRunner] {} 작업 실패", job.name, e);
+                Sentry.captureException(e);
+                ledger.setLastOutcome(JobOutcome.FAILURE);
+                ledger.setLastError(truncate(e.toString()));
+            }
+
+            if(lease.isLost()) {
+                log.warn("[UpdaterJobRunner] {} 작업 도중 잠금을 잃었습니다. 다른 서버가 같은 작업을 실행했을 수 있습니다.", job.name);
+            }
+
+            ledger.setLastFinishedDate(LocalDateTime.now());
+            ledger.setLastDurationMillis(System.currentTimeMillis() - startedAt);
+            jobLedgerRepository.save(ledger);
+
+            log.info("[UpdaterJobRunner] {} 작업 종료. 결과 = {}, 소요 시간 = {}ms", job.name, ledger.getLastOutcome(), ledger.getLastDurationMillis());
+        } finally {
+            runningJobNames.remove(job.name);
+        }
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static class Job {
+
+        private final String name;
+        private final Updater updater;
+        private final Duration interval;
+
+        Job(String name, Updater updater, Duration interval) {
+            this.name = name;
+            this.updater = updater;
+            this.interval = interval;
+        }
+    }
+}
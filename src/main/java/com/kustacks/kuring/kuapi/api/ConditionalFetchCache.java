@@ -0,0 +1,152 @@
+package com.kustacks.kuring.kuapi.api;
+
+import com.kustacks.kuring.util.cache.ExpiringLruCache;
+import lombok.Getter;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+    요청(key)별로 마지막 응답의 검증자(ETag, Last-Modified)와 본문 해시를 보관한다.
+
+    다음 요청에 If-None-Match, If-Modified-Since 헤더를 붙여 서버가 304로 응답할 수 있게 하고,
+    검증자를 지원하지 않는 서버라도 본문 해시가 같으면 변경되지 않은 것으로 보고 파싱을 생략할 수 있게 한다.
+    파싱한 결과(payload)를 함께 보관할 수도 있다.
+
+    parseIfModified로 받은 새 응답의 정보는 바로 반영하지 않고 임시로(staged) 보관하며, 호출하는 쪽이 응답을
+    DB에 반영한 뒤 commit해야 다음 요청부터 사용된다. 반영하지 못했다면 discard해서 다음 요청이 새 응답을 다시 받게 한다.
+    키가 계속 늘어나지 않도록 fetch.cache-size개까지 fetch.cache-ttl 동안만 보관한다. (fetch.cache-ttl은 job.staff-interval보다 길어야 한다.)
+ */
+@Component
+public class ConditionalFetchCache {
+
+    private final ExpiringLruCache<String, Entry> entries;
+    private final ConcurrentMap<String, Entry> stagedEntries;
+
+    public ConditionalFetchCache(@Value("${fetch.cache-size}") int cacheSize, @Value("${fetch.cache-ttl}") long cacheTtl) {
+        this.entries = new ExpiringLruCache<>(cacheSize, cacheTtl);
+        this.stagedEntries = new ConcurrentHashMap<>();
+    }
+
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public void put(String key, String etag, String lastModified, String bodyHash, Object payload) {
+        entries.put(key, new Entry(etag, lastModified, bodyHash, payload));
+    }
+
+    /**
+     * 응답을 처리하지 못한 경우, 다음 요청에서 다시 전체 응답을 받도록 보관한 정보를 지운다.
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+        stagedEntries.remove(key);
+    }
+
+    /**
+     * 보관한 검증자를 조건부 요청 헤더로 붙인다.
+     */
+    public Connection applyValidators(String key, Connection connection) {
+
+        Entry entry = entries.get(key);
+        if(entry == null) {
+            return connection;
+        }
+
+        if(entry.etag != null) {
+            connection.header("If-None-Match", entry.etag);
+        }
+        if(entry.lastModified != null) {
+            connection.header("If-Modified-Since", entry.lastModified);
+        }
+
+        return connection;
+    }
+
+    /**
+     * 이전 응답과 달라졌다면 본문을 파싱한 Document를, 304 응답이거나 본문이 같다면 null을 반환한다.
+     * 달라진 응답의 검증자와 본문 해시는 commit할 때까지 임시로 보관한다.
+     */
+    public Document parseIfModified(String key, Connection.Response response) {
+
+        Entry entry = entries.get(key);
+        if(response.statusCode() == 304 && entry != null) {
+            return null;
+        }
+
+        String body = response.body();
+        String bodyHash = hash(body);
+        if(entry != null && entry.bodyHash.equals(bodyHash)) {
+            return null;
+        }
+
+        stagedEntries.put(key, new Entry(response.header("ETag"), response.header("Last-Modified"), bodyHash, null));
+        return Jsoup.parse(body, response.url().toString());
+    }
+
+    /**
+     * 임시로 보관한 응답에 파싱한 결과를 함께 보관한다.
+     * 임시로 보관한 응답이 없다면(조건부로 요청하지 않은 경우) 보관한 응답의 검증자를 그대로 사용한다.
+     */
+    public void stagePayload(String key, Object payload) {
+
+        Entry stagedEntry = stagedEntries.get(key);
+        if(stagedEntry == null) {
+            stagedEntry = entries.get(key);
+        }
+
+        if(stagedEntry != null) {
+            stagedEntries.put(key, new Entry(stagedEntry.etag, stagedEntry.lastModified, stagedEntry.bodyHash, payload));
+        }
+    }
+
+    /**
+     * 응답을 반영했으므로 임시로 보관한 정보를 다음 요청부터 사용한다.
+     */
+    public void commit(Collection<String> keys) {
+        for (String key : keys) {
+            Entry stagedEntry = stagedEntries.remove(key);
+            if(stagedEntry != null) {
+                entries.put(key, stagedEntry);
+            }
+        }
+    }
+
+    /**
+     * 응답을 반영하지 못했으므로 임시로 보관한 정보를 버린다.
+     */
+    public void discard(Collection<String> keys) {
+        for (String key : keys) {
+            stagedEntries.remove(key);
+        }
+    }
+
+    public static String hash(String body) {
+        return DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Getter
+    public static class Entry {
+
+        private final String etag;
+        private final String lastModified;
+        private final String bodyHash;
+        private final Object payload;
+
+        Entry(String etag, String lastModified, String bodyHash, Object payload) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.bodyHash = bodyHash;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.kustacks.kuring.kuapi.api;
+
+import java.util.function.Supplier;
+
+/*
+    현재 스레드가 보내는 요청들이 끝나야 하는 마감 시각
+
+    Future.cancel은 응답을 기다리며 블로킹된 소켓 읽기를 중단시키지 못하므로, 마감 시각이 지난 요청도
+    소켓 타임아웃까지 스레드를 점유한다. RestTemplate은 요청마다 남은 시간을 연결, 읽기 타임아웃의 상한으로 사용해서
+    요청이 마감 시각을 넘겨 스레드를 점유하지 않게 한다. (재시도와 로그인 요청도 같은 마감 시각을 공유한다.)
+ */
+public class RequestDeadline {
+
+    private static final ThreadLocal<Long> deadline = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    public static <T> T call(long deadlineMillis, Supplier<T> supplier) {
+
+        Long previousDeadline = deadline.get();
+        deadline.set(deadlineMillis);
+        try {
+            return supplier.get();
+        } finally {
+            if(previousDeadline == null) {
+                deadline.remove();
+            } else {
+                deadline.set(previousDeadline);
+            }
+        }
+    }
+
+    /**
+     * 마감 시각이 없다면 timeout을, 있다면 timeout과 남은 시간 중 작은 값을 반환한다. 마감 시각이 지났다면 1ms를 반환한다.
+     */
+    public static int boundTimeout(int timeout) {
+
+        Long deadlineMillis = deadline.get();
+        if(deadlineMillis == null) {
+            return timeout;
+        }
+
+        long remainingMillis = deadlineMillis - System.currentTimeMillis();
+        return (int) Math.max(1, Math.min(timeout, remainingMillis));
+    }
+}
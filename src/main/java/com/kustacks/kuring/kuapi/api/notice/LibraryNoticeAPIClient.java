@@ -1,70 +1,220 @@
 package com.kustacks.kuring.kuapi.api.notice;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
+import com.kustacks.kuring.kuapi.notice.dto.response.LibraryDataDTO;
 import com.kustacks.kuring.kuapi.notice.dto.response.LibraryNoticeDTO;
 import com.kustacks.kuring.kuapi.notice.dto.response.LibraryNoticeResponseDTO;
 import com.kustacks.kuring.util.converter.DTOConverter;
 import com.kustacks.kuring.util.converter.LibraryNoticeDTOToCommonFormatDTOConverter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 public class LibraryNoticeAPIClient implements NoticeAPIClient {
 
     @Value("${library.request-url}")
     private String libraryUrl;
 
+    @Value("${library.page-size}")
+    private int pageSize;
+
+    @Value("${library.full-sync-interval}")
+    private long fullSyncInterval;
+
     private final DTOConverter dtoConverter;
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ConditionalFetchCache conditionalFetchCache;
+
+    // 마지막으로 확인한 게시판 전체 공지와 전체 공지 수
+    private List<LibraryNoticeDTO> knownNotices;
+    private int knownTotalCount;
+    private long lastFullSyncAt;
+
+    public LibraryNoticeAPIClient(LibraryNoticeDTOToCommonFormatDTOConverter dtoConverter,
+                                  RestTemplate restTemplate,
+                                  ObjectMapper objectMapper,
+                                  ConditionalFetchCache conditionalFetchCache) {
 
-    public LibraryNoticeAPIClient(LibraryNoticeDTOToCommonFormatDTOConverter dtoConverter, RestTemplate restTemplate) {
         this.dtoConverter = dtoConverter;
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.conditionalFetchCache = conditionalFetchCache;
+
+        this.knownNotices = null;
     }
 
     /*
         도서관 공지 갱신
+
+        요청은 이전 응답의 ETag, Last-Modified로 조건부로 보낸다.
+        304 응답이거나 본문 해시가 이전과 같다면 JSON을 다시 파싱하지 않고 이전에 파싱한 응답을 사용한다.
+
+        게시판 전체를 매번 받지 않고, 마지막으로 확인한 공지 목록에 새 공지만 더한다.
+        1. 첫 페이지(library.page-size개)부터 받아서 처음 보는 공지를 모은다.
+           페이지가 모두 처음 보는 공지라면 다음 페이지도 받는다.
+        2. 알고 있던 공지 수 + 새 공지 수가 응답의 전체 공지 수와 다르다면(공지 삭제 등) 게시판 전체를 다시 받는다.
+        3. 서버 재시작 직후와, 마지막 전체 수신 후 library.full-sync-interval이 지났다면 게시판 전체를 받는다.
+           새 공지와 삭제된 공지가 같은 수라서 2에서 찾지 못한 삭제는 이때 반영된다.
+
+        새 공지만 받으므로 이미 알고 있는 공지의 제목, 날짜 등이 수정되어도 바로 반영되지 않는다.
+        수정된 내용은 다음 전체 수신(최대 library.full-sync-interval 후)에서 반영된다.
      */
 
     @Override
-    public List<CommonNoticeFormatDTO> getNotices(CategoryName categoryName) throws InternalLogicException {
+    public synchronized List<CommonNoticeFormatDTO> getNotices(CategoryName categoryName) throws InternalLogicException {
+
+        List<LibraryNoticeDTO> libraryNoticeDTOList = null;
+        if(knownNotices != null && System.currentTimeMillis() - lastFullSyncAt < fullSyncInterval) {
+            libraryNoticeDTOList = fetchIncrementally();
+        }
 
+        if(libraryNoticeDTOList == null) {
+            libraryNoticeDTOList = fetchAll();
+        }
+
+        return convertToCommonFormatDTO(libraryNoticeDTOList);
+    }
+
+    private List<LibraryNoticeDTO> fetchAll() throws InternalLogicException {
+
+        log.info("도서관 공지 전체 수신");
+
+        LibraryDataDTO firstPage = fetchPage(0, pageSize);
+        List<LibraryNoticeDTO> libraryNoticeDTOList = new LinkedList<>(firstPage.getList());
+
+        int remainCount = firstPage.getTotalCount() - pageSize;
+        if(remainCount > 0) {
+            libraryNoticeDTOList.addAll(fetchPage(pageSize, remainCount).getList());
+        }
+
+        knownNotices = libraryNoticeDTOList;
+        knownTotalCount = firstPage.getTotalCount();
+        lastFullSyncAt = System.currentTimeMillis();
+
+        return libraryNoticeDTOList;
+    }
+
+    // 새 공지를 반영한 전체 공지 목록을 반환한다. 알고 있던 목록과 맞지 않으면 null을 반환한다.
+    private List<LibraryNoticeDTO> fetchIncrementally() throws InternalLogicException {
+
+        Set<String> knownIds = knownNotices.stream().map(LibraryNoticeDTO::getId).collect(Collectors.toSet());
+
+        List<LibraryNoticeDTO> newNotices = new LinkedList<>();
         int offset = 0;
-        int max = 20;
-        int reqIdx = 0;
-        List<LibraryNoticeDTO> libraryNoticeDTOList = new LinkedList<>();
-        while(reqIdx < 2) {
-            String fullLibraryUrl = UriComponentsBuilder.fromUriString(libraryUrl).queryParam("offset", offset).queryParam("max", max).build().toString();
-            ResponseEntity<LibraryNoticeResponseDTO> libraryResponse = restTemplate.getForEntity(fullLibraryUrl, LibraryNoticeResponseDTO.class);
-            LibraryNoticeResponseDTO libraryNoticeResponseDTO = libraryResponse.getBody();
-            if(libraryNoticeResponseDTO == null) {
-//                log.error("도서관 공지 {}번째 요청에 대한 응답의 body가 없습니다.", reqIdx + 1);
-                throw new InternalLogicException(ErrorCode.LIB_CANNOT_PARSE_JSON);
+        int totalCount;
+        while(true) {
+            LibraryDataDTO page = fetchPage(offset, pageSize);
+            totalCount = page.getTotalCount();
+
+            boolean hasKnownNotice = false;
+            for (LibraryNoticeDTO libraryNoticeDTO : page.getList()) {
+                if(knownIds.contains(libraryNoticeDTO.getId())) {
+                    hasKnownNotice = true;
+                } else {
+                    newNotices.add(libraryNoticeDTO);
+                }
             }
 
-            boolean isLibraryRequestSuccess = libraryNoticeResponseDTO.isSuccess();
-            if(!isLibraryRequestSuccess) {
-//                log.error("도서관 공지 {}번째 요청에 대한 응답이 fail입니다.", reqIdx + 1);
-                throw new InternalLogicException(ErrorCode.LIB_BAD_RESPONSE);
+            offset += pageSize;
+            if(hasKnownNotice || page.getList().size() < pageSize || offset >= totalCount) {
+                break;
             }
+        }
 
-            offset = max;
-            max = libraryNoticeResponseDTO.getData().getTotalCount() - max;
+        if(knownTotalCount + newNotices.size() != totalCount) {
+            log.info("도서관 공지 수 불일치. 알고 있던 공지 = {}, 새 공지 = {}, 전체 = {}", knownTotalCount, newNotices.size(), totalCount);
+            return null;
+        }
 
-            libraryNoticeDTOList.addAll(libraryNoticeResponseDTO.getData().getList());
-            ++reqIdx;
+        log.info("도서관 공지 {}페이지 수신, 새 공지 = {}", offset / pageSize, newNotices.size());
+
+        List<LibraryNoticeDTO> libraryNoticeDTOList = new LinkedList<>(newNotices);
+        libraryNoticeDTOList.addAll(knownNotices);
+
+        knownNotices = libraryNoticeDTOList;
+        knownTotalCount = totalCount;
+
+        return libraryNoticeDTOList;
+    }
+
+    private LibraryDataDTO fetchPage(int offset, int max) throws InternalLogicException {
+
+        String fullLibraryUrl = UriComponentsBuilder.fromUriString(libraryUrl).queryParam("offset", offset).queryParam("max", max).build().toString();
+        LibraryNoticeResponseDTO libraryNoticeResponseDTO = fetch(fullLibraryUrl);
+        if(libraryNoticeResponseDTO == null) {
+            log.error("도서관 공지 요청(offset = {}, max = {})에 대한 응답의 body가 없습니다.", offset, max);
+            throw new InternalLogicException(ErrorCode.LIB_CANNOT_PARSE_JSON);
         }
 
-        return convertToCommonFormatDTO(libraryNoticeDTOList);
+        boolean isLibraryRequestSuccess = libraryNoticeResponseDTO.isSuccess();
+        if(!isLibraryRequestSuccess) {
+            log.error("도서관 공지 요청(offset = {}, max = {})에 대한 응답이 fail입니다.", offset, max);
+            throw new InternalLogicException(ErrorCode.LIB_BAD_RESPONSE);
+        }
+
+        return libraryNoticeResponseDTO.getData();
+    }
+
+    private LibraryNoticeResponseDTO fetch(String url) throws InternalLogicException {
+
+        ConditionalFetchCache.Entry entry = conditionalFetchCache.get(url);
+
+        HttpHeaders headers = new HttpHeaders();
+        if(entry != null && entry.getEtag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, entry.getEtag());
+        }
+        if(entry != null && entry.getLastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.getLastModified());
+        }
+
+        ResponseEntity<String> libraryResponse = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        if(libraryResponse.getStatusCode() == HttpStatus.NOT_MODIFIED && entry != null) {
+            return (LibraryNoticeResponseDTO) entry.getPayload();
+        }
+
+        String body = libraryResponse.getBody();
+        if(body == null) {
+            return null;
+        }
+
+        String bodyHash = ConditionalFetchCache.hash(body);
+        if(entry != null && entry.getBodyHash().equals(bodyHash)) {
+            return (LibraryNoticeResponseDTO) entry.getPayload();
+        }
+
+        LibraryNoticeResponseDTO libraryNoticeResponseDTO;
+        try {
+            libraryNoticeResponseDTO = objectMapper.readValue(body, LibraryNoticeResponseDTO.class);
+        } catch(JsonProcessingException e) {
+            throw new InternalLogicException(ErrorCode.LIB_CANNOT_PARSE_JSON, e);
+        }
+
+        // 실패 응답은 다음 요청에서 다시 확인하도록 보관하지 않는다.
+        if(libraryNoticeResponseDTO.isSuccess()) {
+            HttpHeaders responseHeaders = libraryResponse.getHeaders();
+            conditionalFetchCache.put(url, responseHeaders.getETag(), responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED), bodyHash, libraryNoticeResponseDTO);
+        }
+
+        return libraryNoticeResponseDTO;
     }
 
     private List<CommonNoticeFormatDTO> convertToCommonFormatDTO(List<LibraryNoticeDTO> libraryNoticeDTOList) {
@@ -8,14 +8,26 @@ import com.kustacks.kuring.util.encoder.Encoder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/*
+    KUIS 로그인 세션 관리
+
+    1. 로그인은 한 번에 하나만 진행한다. 로그인 중에 세션을 요청한 스레드는 새로 로그인하지 않고 진행 중인 로그인의 결과를 함께 받는다.
+    2. 로그인한 세션은 auth.session-ttl 동안 유효한 것으로 본다. 만료 auth.refresh-ahead 전부터는
+       스케줄러가 백그라운드에서 미리 다시 로그인하므로, 공지 수신 중에 로그인을 기다리는 일이 줄어든다.
+    3. 로그인 소요 시간과 로그인(갱신) 횟수를 기록한다.
+ */
 @Slf4j
 @Component
 public class ParsingKuisAuthManager implements KuisAuthManager {
@@ -35,14 +47,28 @@ public class ParsingKuisAuthManager implements KuisAuthManager {
     @Value("${auth.session}")
     private String sessionId;
 
+    @Value("${auth.session-ttl}")
+    private long sessionTtl;
+
+    @Value("${auth.refresh-ahead}")
+    private long refreshAhead;
+
     private final KuisLoginRequestBody kuisLoginRequestBody;
     private final RestTemplate restTemplate;
     private final Encoder encoder;
 
     private String loginRequestBody;
-    private boolean sessionNeedToBeRenew; // 세션 유효기간이 남아있어야 하지만, 알 수 없는 오류로 인해 세션이 유효하지 않은 경우 true로 설정됨
-    private boolean apiSkeletonNeedToBeRenew;
-    private boolean isLoginPossible;
+    // 세션이 유효하다고 보는 시각. 0이면 갱신이 필요하다. 세션 유효기간이 남아있어야 하지만, 알 수 없는 오류로 인해 세션이 유효하지 않은 경우에도 0으로 설정됨
+    private volatile long sessionValidUntil;
+    private volatile boolean isLoginPossible;
+    private final AtomicReference<CompletableFuture<String>> inFlightLogin;
+
+    private final AtomicLong loginCount;
+    private final AtomicLong loginFailureCount;
+    private final AtomicLong proactiveRenewalCount;
+    private final AtomicLong totalLoginMillis;
+    private volatile long lastLoginMillis;
+
     private final String parsingPattern = "submit\\.addParameter[(]\"(.{5,7})\",\"(.{5,7})\"[)]";
     private final Pattern pattern;
 
@@ -54,10 +80,15 @@ public class ParsingKuisAuthManager implements KuisAuthManager {
         this.restTemplate = restTemplate;
         this.kuisLoginRequestBody = kuisLoginRequestBody;
         this.encoder = requestBodyEncoder;
-        this.sessionNeedToBeRenew = true;
-        this.apiSkeletonNeedToBeRenew = true;
+        this.sessionValidUntil = 0;
         this.isLoginPossible = true;
         this.loginRequestBody = null;
+        this.inFlightLogin = new AtomicReference<>();
+
+        this.loginCount = new AtomicLong();
+        this.loginFailureCount = new AtomicLong();
+        this.proactiveRenewalCount = new AtomicLong();
+        this.totalLoginMillis = new AtomicLong();
 
         this.pattern  = Pattern.compile(parsingPattern);
     }
@@ -68,13 +99,121 @@ public class ParsingKuisAuthManager implements KuisAuthManager {
         if(!isLoginPossible) {
             throw new InternalLogicException(ErrorCode.KU_LOGIN_IMPOSSIBLE);
         }
-        
-        // apiSkeletonNeedToBeRenew가 true 이면 sessionNeedToBeRenew는 항상 true이므로 sessionNeedToBeRenew만 검사함.
-        if(!sessionNeedToBeRenew) {
+
+        if(System.currentTimeMillis() < sessionValidUntil) {
             log.info("세션아이디 갱신 안하고 바로 리턴");
             return sessionId;
         }
 
+        return loginOnce(false);
+    }
+
+    @Override
+    public void forceRenewing() {
+        this.sessionValidUntil = 0;
+    }
+
+    /**
+     * 세션 만료가 가까워지면 공지 수신과 관계없이 미리 다시 로그인한다.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-check-delay}")
+    public void refreshIfExpiring() {
+
+        long validUntil = sessionValidUntil;
+        if(!isLoginPossible || validUntil == 0 || validUntil - System.currentTimeMillis() > refreshAhead) {
+            return;
+        }
+
+        log.info("세션 만료 전 미리 갱신");
+        proactiveRenewalCount.incrementAndGet();
+        try {
+            loginOnce(true);
+        } catch(InternalLogicException e) {
+            // 다음 공지 수신에서 다시 로그인을 시도한다.
+            log.warn("세션 미리 갱신 실패. {}", e.getErrorCode().getMessage());
+        }
+    }
+
+    public long getLoginCount() {
+        return loginCount.get();
+    }
+
+    public long getLoginFailureCount() {
+        return loginFailureCount.get();
+    }
+
+    public long getProactiveRenewalCount() {
+        return proactiveRenewalCount.get();
+    }
+
+    public long getLastLoginMillis() {
+        return lastLoginMillis;
+    }
+
+    public long getAverageLoginMillis() {
+        long count = loginCount.get();
+        return count == 0 ? 0 : totalLoginMillis.get() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "[KuisAuthManager] 로그인 = " + loginCount.get()
+                + ", 실패 = " + loginFailureCount.get()
+                + ", 미리 갱신 = " + proactiveRenewalCount.get()
+                + ", 마지막 로그인 소요 시간 = " + lastLoginMillis + "ms"
+                + ", 평균 로그인 소요 시간 = " + getAverageLoginMillis() + "ms";
+    }
+
+    // 진행 중인 로그인이 있다면 그 결과를 기다리고, 없다면 이 스레드에서 로그인한다.
+    private String loginOnce(boolean isRenewal) {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> runningFuture = inFlightLogin.compareAndExchange(null, future);
+        if(runningFuture != null) {
+            log.info("진행 중인 로그인 결과 대기");
+            return join(runningFuture);
+        }
+
+        // 세션이 만료된 것을 확인한 사이에 다른 스레드가 로그인을 끝낸 경우
+        if(!isRenewal && System.currentTimeMillis() < sessionValidUntil) {
+            inFlightLogin.set(null);
+            future.complete(sessionId);
+            return sessionId;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            String renewedSessionId = login();
+            sessionValidUntil = System.currentTimeMillis() + sessionTtl;
+            future.complete(renewedSessionId);
+            return renewedSessionId;
+        } catch(RuntimeException e) {
+            loginFailureCount.incrementAndGet();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            long elapsed = System.currentTimeMillis() - startedAt;
+            lastLoginMillis = elapsed;
+            totalLoginMillis.addAndGet(elapsed);
+            loginCount.incrementAndGet();
+            inFlightLogin.set(null);
+            log.info("{}", this);
+        }
+    }
+
+    private String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String login() {
+
         log.info("세션아이디 갱신시작");
 
         // request body api skeleton 갱신
@@ -82,7 +221,6 @@ public class ParsingKuisAuthManager implements KuisAuthManager {
         try {
             String apiSkeletonStr = restTemplate.getForObject(apiSkeletonProducerUrl, String.class);
             loginRequestBodyStringBuilder = renewApiSkeleton(apiSkeletonStr);
-            apiSkeletonNeedToBeRenew = false;
         } catch(RestClientException e) {
             throw new InternalLogicException(ErrorCode.KU_LOGIN_CANNOT_GET_API_SKELETON, e);
         }
@@ -101,28 +239,22 @@ public class ParsingKuisAuthManager implements KuisAuthManager {
         try {
             loginResponse = restTemplate.exchange(loginUrl, HttpMethod.POST, loginRequestEntity, String.class);
         } catch(RestClientException e) {
-            sessionNeedToBeRenew = true; // loginUrl이 틀렸거나 kuis서버가 불안정해서 5xx 에러를 뱉는 경우
+            // loginUrl이 틀렸거나 kuis서버가 불안정해서 5xx 에러를 뱉는 경우
             throw new InternalLogicException(ErrorCode.KU_LOGIN_CANNOT_LOGIN, e);
         }
 
         // 로그인 요청에 대한 응답 메세지의 body 확인
-        boolean isLoginSuccess = checkLoginResponseBody(loginResponse);;
+        boolean isLoginSuccess = checkLoginResponseBody(loginResponse);
         if(!isLoginSuccess) {
             // 잘못된 응답 body가 왔다면 로그인 방식이 변경되었다고 추측해야한다.
             isLoginPossible = false;
             throw new InternalLogicException(ErrorCode.KU_LOGIN_BAD_RESPONSE);
-        } else {
-            sessionNeedToBeRenew = false;
         }
 
         log.info("세션아이디 갱신완료");
         return this.sessionId;
     }
 
-    public void forceRenewing() {
-        this.sessionNeedToBeRenew = true;
-    }
-
     private boolean checkLoginResponseBody(ResponseEntity<String> loginResponse) {
 
         String body = loginResponse.getBody();
@@ -6,20 +6,28 @@ import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
 import com.kustacks.kuring.kuapi.staff.deptinfo.art_design.CommunicationDesignDept;
 import com.kustacks.kuring.kuapi.staff.deptinfo.art_design.LivingDesignDept;
 import com.kustacks.kuring.kuapi.staff.deptinfo.real_estate.RealEstateDept;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/*
+    학과 교직원 페이지는 첫 페이지의 totalPageCount로 전체 페이지 수를 알 수 있다.
+    첫 페이지를 받은 뒤 나머지 페이지를 staffPageFetchExecutor에서 동시에 요청하고, 여러 pfForumId도 동시에 처리한다.
+    수신한 페이지는 순서와 관계없이 바로 pageConsumer에 전달한다.
+    페이지는 조건부로 요청하므로, 첫 페이지가 바뀌지 않았다면 전에 확인한 전체 페이지 수를 사용한다.
+    호스트별 동시 요청 수와 요청 간격은 JsoupClient의 HostRequestThrottle이 제한한다.
+ */
 @Component
 public class EachDeptStaffAPIClient implements StaffAPIClient {
 
@@ -27,9 +35,16 @@ public class EachDeptStaffAPIClient implements StaffAPIClient {
     private String baseUrl;
 
     private final JsoupClient jsoupClient;
+    private final Executor executor;
+
+    // key: 첫 페이지 url
+    private final ConcurrentMap<String, Integer> totalPageNums;
 
-    public EachDeptStaffAPIClient(JsoupClient normalJsoupClient) {
+    public EachDeptStaffAPIClient(JsoupClient normalJsoupClient, ThreadPoolTaskExecutor staffPageFetchExecutor) {
         this.jsoupClient = normalJsoupClient;
+        this.executor = staffPageFetchExecutor;
+
+        this.totalPageNums = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -41,47 +56,85 @@ public class EachDeptStaffAPIClient implements StaffAPIClient {
     }
 
     @Override
-    public List<Document> getHTML(DeptInfo deptInfo) throws InternalLogicException {
-
-        UriComponentsBuilder urlBuilder;
-        String url;
-        List<Document> documents = new LinkedList<>();
+    public void getHTML(DeptInfo deptInfo, StaffPageConsumer pageConsumer) throws InternalLogicException {
 
+        List<CompletableFuture<Void>> forumFutures = new LinkedList<>();
         for (String pfForumId : deptInfo.getStaffScrapInfo().getPfForumId()) {
-            urlBuilder = UriComponentsBuilder.fromUriString(baseUrl).queryParam("pfForumId", pfForumId);
-            url = urlBuilder.toUriString();
-
-            Document document;
-            try {
-                document = jsoupClient.get(url, SCRAP_TIMEOUT);
-            } catch(IOException e) {
-                throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP, e);
+            String url = UriComponentsBuilder.fromUriString(baseUrl).queryParam("pfForumId", pfForumId).toUriString();
+            forumFutures.add(fetchForum(url, pageConsumer));
+        }
+
+        try {
+            for (CompletableFuture<Void> forumFuture : forumFutures) {
+                forumFuture.join();
+            }
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof IOException) {
+                throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP, (IOException) e.getCause());
+            }
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 첫 페이지를 받아 전체 페이지 수를 확인한 뒤, 2페이지부터 마지막 페이지까지 동시에 요청한다.
+    // 각 페이지는 수신한 스레드에서 바로 pageConsumer에 전달하고 보관하지 않는다.
+    private CompletableFuture<Void> fetchForum(String url, StaffPageConsumer pageConsumer) {
+
+        return CompletableFuture.supplyAsync(() -> get(url), executor).thenCompose(firstPage -> {
+            int totalPageNum = totalPageNum(url, firstPage);
+
+            List<CompletableFuture<Void>> pageFutures = new ArrayList<>(Math.max(totalPageNum - 1, 0));
+            for (int pageNum = 2; pageNum <= totalPageNum; ++pageNum) {
+                Map<String, String> requestBody = new HashMap<>();
+                requestBody.put("pageNum", String.valueOf(pageNum));
+
+                String pageKey = JsoupClient.requestKey(url, requestBody);
+                pageFutures.add(CompletableFuture.supplyAsync(() -> post(url, requestBody), executor)
+                        .thenAccept(page -> pageConsumer.accept(pageKey, page)));
             }
 
-            Element pageNumHiddenInput = document.getElementById("totalPageCount");
-            int totalPageNum = Integer.parseInt(pageNumHiddenInput.val());
-            int pageNum = 1; // 이미 1페이지를 받아왔으므로 2페이지부터 호출하면됨
-
-            Map<String, String> requestBody = new HashMap<>();
-            while(true) {
-                documents.add(document);
-
-                if(++pageNum > totalPageNum) {
-                    break;
-                }
-
-                try {
-                    requestBody.put("pageNum", String.valueOf(pageNum));
-                    document = jsoupClient.post(url, SCRAP_TIMEOUT, requestBody);
-//                    document = Jsoup.connect(url)
-//                            .data("pageNum", String.valueOf(pageNum))
-//                            .post();
-                } catch(IOException e) {
-                    throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP, e);
-                }
+            pageConsumer.accept(JsoupClient.requestKey(url, Collections.emptyMap()), firstPage);
+
+            return CompletableFuture.allOf(pageFutures.toArray(new CompletableFuture[0]));
+        });
+    }
+
+    private int totalPageNum(String url, Document firstPage) {
+
+        if(firstPage == null) {
+            return totalPageNums.get(url);
+        }
+
+        Element pageNumHiddenInput = firstPage.getElementById("totalPageCount");
+        int totalPageNum = Integer.parseInt(pageNumHiddenInput.val());
+        totalPageNums.put(url, totalPageNum);
+
+        return totalPageNum;
+    }
+
+    private Document get(String url) {
+        try {
+            Document firstPage = jsoupClient.getIfModified(url, SCRAP_TIMEOUT);
+
+            // 첫 페이지는 바뀌지 않았지만 전체 페이지 수를 모르는 경우
+            if(firstPage == null && !totalPageNums.containsKey(url)) {
+                firstPage = jsoupClient.get(url, SCRAP_TIMEOUT);
             }
+
+            return firstPage;
+        } catch(IOException e) {
+            throw new CompletionException(e);
         }
+    }
 
-        return documents;
+    private Document post(String url, Map<String, String> requestBody) {
+        try {
+            return jsoupClient.postIfModified(url, SCRAP_TIMEOUT, requestBody);
+        } catch(IOException e) {
+            throw new CompletionException(e);
+        }
     }
 }
@@ -0,0 +1,84 @@
+package com.kustacks.kuring.kuapi.api.staff;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/*
+    스크래핑 대상 서버에 부담을 주지 않도록 호스트별로 요청을 제한한다.
+    1. 한 호스트에 동시에 보내는 요청은 staff.host-concurrency개를 넘지 않는다.
+    2. 한 호스트로 보내는 요청의 시작 시각은 최소 staff.host-delay만큼 간격을 둔다.
+ */
+@Component
+public class HostRequestThrottle {
+
+    @FunctionalInterface
+    public interface Request<T> {
+        T send() throws IOException;
+    }
+
+    private final int maxConcurrency;
+    private final long minInterval;
+
+    private final ConcurrentMap<String, HostState> hostStates;
+
+    public HostRequestThrottle(@Value("${staff.host-concurrency}") int maxConcurrency,
+                               @Value("${staff.host-delay}") long minInterval) {
+
+        this.maxConcurrency = maxConcurrency;
+        this.minInterval = minInterval;
+
+        this.hostStates = new ConcurrentHashMap<>();
+    }
+
+    public <T> T execute(String url, Request<T> request) throws IOException {
+
+        HostState hostState = hostStates.computeIfAbsent(hostOf(url), host -> new HostState(maxConcurrency));
+
+        try {
+            hostState.semaphore.acquire();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 대기 중 인터럽트 발생");
+        }
+
+        try {
+            Thread.sleep(hostState.reserveTurn(minInterval));
+            return request.send();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 대기 중 인터럽트 발생");
+        } finally {
+            hostState.semaphore.release();
+        }
+    }
+
+    private String hostOf(String url) {
+        String host = URI.create(url).getHost();
+        return host == null ? url : host;
+    }
+
+    private static class HostState {
+
+        private final Semaphore semaphore;
+        private long nextRequestAt;
+
+        HostState(int maxConcurrency) {
+            this.semaphore = new Semaphore(maxConcurrency, true);
+        }
+
+        // 이번 요청을 보낼 수 있는 시각을 예약하고, 그때까지 기다려야 하는 시간을 반환한다.
+        synchronized long reserveTurn(long minInterval) {
+            long now = System.currentTimeMillis();
+            long requestAt = Math.max(now, nextRequestAt);
+            nextRequestAt = requestAt + minInterval;
+            return requestAt - now;
+        }
+    }
+}
@@ -4,8 +4,27 @@ import org.jsoup.nodes.Document;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.TreeMap;
 
 public interface JsoupClient {
     Document get(String url, int timeOut) throws IOException;
     Document post(String url, int timeOut, Map<String, String> requestBody) throws IOException;
+
+    /**
+     * 이전 응답의 검증자로 조건부 GET 요청을 보낸다.
+     * 304 응답이거나 본문이 이전과 같다면 null을, 달라졌다면 Document를 반환한다.
+     */
+    Document getIfModified(String url, int timeOut) throws IOException;
+
+    /**
+     * POST 요청을 보내고, 본문이 이전과 같다면 null을, 달라졌다면 Document를 반환한다.
+     */
+    Document postIfModified(String url, int timeOut, Map<String, String> requestBody) throws IOException;
+
+    /**
+     * ConditionalFetchCache에서 요청을 구분하는 키
+     */
+    static String requestKey(String url, Map<String, String> requestBody) {
+        return requestBody.isEmpty() ? url : url + "#" + new TreeMap<>(requestBody);
+    }
 }
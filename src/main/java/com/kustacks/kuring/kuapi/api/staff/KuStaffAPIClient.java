@@ -11,9 +11,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
 @Component
@@ -42,21 +41,18 @@ public class KuStaffAPIClient implements StaffAPIClient {
     }
 
     @Override
-    public List<Document> getHTML(DeptInfo deptInfo) throws InternalLogicException {
+    public void getHTML(DeptInfo deptInfo, StaffPageConsumer pageConsumer) throws InternalLogicException {
 
         UriComponentsBuilder urlBuilder = UriComponentsBuilder.fromUriString(urlMap.get(deptInfo));
         String url = urlBuilder.toUriString();
 
         Document document;
         try {
-            document = jsoupClient.get(url, SCRAP_TIMEOUT);
+            document = jsoupClient.getIfModified(url, SCRAP_TIMEOUT);
         } catch(IOException e) {
             throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP, e);
         }
 
-        List<Document> documents = new LinkedList<>();
-        documents.add(document);
-
-        return documents;
+        pageConsumer.accept(JsoupClient.requestKey(url, Collections.emptyMap()), document);
     }
 }
@@ -1,29 +1,63 @@
 package com.kustacks.kuring.kuapi.api.staff;
 
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
 @Component
 public class NormalJsoupClient implements JsoupClient {
 
+    private final HostRequestThrottle hostRequestThrottle;
+    private final ConditionalFetchCache conditionalFetchCache;
+
+    public NormalJsoupClient(HostRequestThrottle hostRequestThrottle, ConditionalFetchCache conditionalFetchCache) {
+        this.hostRequestThrottle = hostRequestThrottle;
+        this.conditionalFetchCache = conditionalFetchCache;
+    }
+
     @Override
     public Document get(String url, int timeOut) throws IOException {
-        return Jsoup.connect(url).timeout(timeOut).get();
+        return hostRequestThrottle.execute(url, () -> Jsoup.connect(url).timeout(timeOut).get());
     }
 
     @Override
     public Document post(String url, int timeOut, Map<String, String> requestBody) throws IOException {
+        return hostRequestThrottle.execute(url, postConnection(url, timeOut, requestBody)::post);
+    }
+
+    @Override
+    public Document getIfModified(String url, int timeOut) throws IOException {
+
+        String key = JsoupClient.requestKey(url, Collections.emptyMap());
+        Connection connection = conditionalFetchCache.applyValidators(key, Jsoup.connect(url).timeout(timeOut));
+
+        Connection.Response response = hostRequestThrottle.execute(url, () -> connection.method(Connection.Method.GET).execute());
+        return conditionalFetchCache.parseIfModified(key, response);
+    }
+
+    @Override
+    public Document postIfModified(String url, int timeOut, Map<String, String> requestBody) throws IOException {
+
+        String key = JsoupClient.requestKey(url, requestBody);
+        Connection connection = postConnection(url, timeOut, requestBody);
+
+        Connection.Response response = hostRequestThrottle.execute(url, () -> connection.method(Connection.Method.POST).execute());
+        return conditionalFetchCache.parseIfModified(key, response);
+    }
+
+    private Connection postConnection(String url, int timeOut, Map<String, String> requestBody) {
 
         Connection connection = Jsoup.connect(url).timeout(timeOut);
         for (String key : requestBody.keySet()) {
             connection = connection.data(key, requestBody.get(key));
         }
 
-        return connection.post();
+        return connection;
     }
 }
@@ -1,94 +1,166 @@
 package com.kustacks.kuring.kuapi.api.staff;
 
-import lombok.Getter;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.*;
 
+/*
+    프록시를 거쳐 요청을 보내는 JsoupClient
+
+    ProxyPool에서 점수가 가장 좋은 프록시로 먼저 요청하고, staff.proxy-hedge-delay 안에 응답이 없으면
+    두 번째 프록시로도 요청해서(hedged request) 먼저 성공한 응답을 사용한다. 실패한 요청은 남은 프록시로 대신한다.
+    프록시 하나에는 staff.proxy-timeout까지만 기다린다.
+ */
 @Slf4j
 @Component
 public class ProxyJsoupClient implements JsoupClient {
 
-    private final List<ProxyInfo> proxyList;
+    private static final int MAX_HEDGED_REQUESTS = 2;
+
+    private final ProxyPool proxyPool;
+    private final HostRequestThrottle hostRequestThrottle;
+    private final ConditionalFetchCache conditionalFetchCache;
+    private final Executor executor;
+
+    private final int proxyTimeout;
+    private final long hedgeDelay;
+
+    public ProxyJsoupClient(ProxyPool proxyPool,
+                            HostRequestThrottle hostRequestThrottle,
+                            ConditionalFetchCache conditionalFetchCache,
+                            ThreadPoolTaskExecutor proxyRequestExecutor,
+                            @Value("${staff.proxy-timeout}") int proxyTimeout,
+                            @Value("${staff.proxy-hedge-delay}") long hedgeDelay) {
 
-    public ProxyJsoupClient() {
+        this.proxyPool = proxyPool;
+        this.hostRequestThrottle = hostRequestThrottle;
+        this.conditionalFetchCache = conditionalFetchCache;
+        this.executor = proxyRequestExecutor;
 
-        proxyList = new LinkedList<>();
-        proxyList.add(new ProxyInfo("121.156.109.108", 	8080));
-        proxyList.add(new ProxyInfo("59.21.84.108", 	80));
-        proxyList.add(new ProxyInfo("61.255.239.33", 	8008));
-        proxyList.add(new ProxyInfo("58.75.126.235", 	4145));
+        this.proxyTimeout = proxyTimeout;
+        this.hedgeDelay = hedgeDelay;
     }
 
     @Override
     public Document get(String url, int timeOut) throws IOException {
 
-        MethodCallback methodCallback = (connection, ip, port) -> connection.proxy(ip, port).get();
-        return proxyTemplate(url, timeOut, methodCallback);
+        MethodCallback methodCallback = (connection, ip, port) -> connection.proxy(ip, port).method(Connection.Method.GET).execute();
+        return proxyTemplate(url, timeOut, methodCallback).parse();
     }
 
     @Override
     public Document post(String url, int timeOut, Map<String, String> requestBody) throws IOException {
+        return proxyTemplate(url, timeOut, postCallback(requestBody)).parse();
+    }
+
+    @Override
+    public Document getIfModified(String url, int timeOut) throws IOException {
+
+        String key = JsoupClient.requestKey(url, Collections.emptyMap());
+        MethodCallback methodCallback = (connection, ip, port) -> conditionalFetchCache.applyValidators(key, connection)
+                .proxy(ip, port)
+                .method(Connection.Method.GET)
+                .execute();
+
+        return conditionalFetchCache.parseIfModified(key, proxyTemplate(url, timeOut, methodCallback));
+    }
+
+    @Override
+    public Document postIfModified(String url, int timeOut, Map<String, String> requestBody) throws IOException {
+
+        String key = JsoupClient.requestKey(url, requestBody);
+        return conditionalFetchCache.parseIfModified(key, proxyTemplate(url, timeOut, postCallback(requestBody)));
+    }
 
-        MethodCallback methodCallback = (connection, ip, port) -> {
+    private MethodCallback postCallback(Map<String, String> requestBody) {
+        return (connection, ip, port) -> {
             for (String key : requestBody.keySet()) {
                 connection = connection.data(key, requestBody.get(key));
             }
-            return connection.proxy(ip, port).post();
+            return connection.proxy(ip, port).method(Connection.Method.POST).execute();
         };
-        return proxyTemplate(url, timeOut, methodCallback);
     }
 
-    private Document proxyTemplate(String url, int timeOut, MethodCallback callback) throws IOException {
+    private Connection.Response proxyTemplate(String url, int timeOut, MethodCallback callback) throws IOException {
 
-        Document document = null;
-        IOException jsoupException = null;
-        int idx = 0;
-        for (ProxyInfo proxyInfo : proxyList) {
-            log.info("proxy = {}:{}", proxyInfo.getIp(), proxyInfo.getPort());
-            log.info("idx = {}", idx);
-            Connection connection = Jsoup.connect(url).timeout(timeOut);
-            try {
-                document = callback.sendRequest(connection, proxyInfo.getIp(), proxyInfo.getPort());
-                log.info("{} 으로 성공!", proxyInfo.ip);
-                break;
-            } catch(IOException e) {
-                log.error("Jsoup 오류 발생. {}", e.getMessage());
-                jsoupException = e;
-                ++idx;
-            }
+        Deque<ProxyPool.Proxy> candidates = new ArrayDeque<>(proxyPool.select());
+        if(candidates.isEmpty()) {
+            throw new IOException("사용 가능한 프록시가 없습니다.");
         }
-        if(document != null) {
-            if(idx > 0) {
-                ProxyInfo bestProxy = proxyList.remove(idx);
-                proxyList.add(0, bestProxy);
+
+        int timeOutPerProxy = Math.min(timeOut, proxyTimeout);
+        CompletionService<Connection.Response> completionService = new ExecutorCompletionService<>(executor);
+
+        IOException jsoupException = null;
+        int running = 0;
+        try {
+            completionService.submit(proxyRequest(url, timeOutPerProxy, callback, candidates.poll()));
+            ++running;
+
+            while(running > 0) {
+                Future<Connection.Response> done;
+                if(running < MAX_HEDGED_REQUESTS && !candidates.isEmpty()) {
+                    done = completionService.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+                    if(done == null) {
+                        // 응답이 늦으므로 다음 프록시로도 요청
+                        completionService.submit(proxyRequest(url, timeOutPerProxy, callback, candidates.poll()));
+                        ++running;
+                        continue;
+                    }
+                } else {
+                    done = completionService.take();
+                }
+                --running;
+
+                try {
+                    return done.get();
+                } catch(ExecutionException e) {
+                    jsoupException = e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+                    if(!candidates.isEmpty()) {
+                        completionService.submit(proxyRequest(url, timeOutPerProxy, callback, candidates.poll()));
+                        ++running;
+                    }
+                }
             }
-            return document;
-        } else {
-            throw jsoupException;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("프록시 요청 대기 중 인터럽트 발생");
+        } finally {
+            // 아직 끝나지 않은 요청은 취소하지 않는다. 결과는 ProxyPool에 기록되고 응답은 버려진다.
+            proxyPool.release(candidates);
         }
-    }
 
-    @Getter
-    static class ProxyInfo {
-
-        private final String ip;
-        private final int port;
+        throw jsoupException;
+    }
 
-        public ProxyInfo(String ip, int port) {
-            this.ip = ip;
-            this.port = port;
-        }
+    private Callable<Connection.Response> proxyRequest(String url, int timeOut, MethodCallback callback, ProxyPool.Proxy proxy) {
+        return () -> {
+            long startedAt = System.currentTimeMillis();
+            try {
+                Connection connection = Jsoup.connect(url).timeout(timeOut);
+                Connection.Response response = hostRequestThrottle.execute(url, () -> callback.sendRequest(connection, proxy.getIp(), proxy.getPort()));
+                proxyPool.recordSuccess(proxy, System.currentTimeMillis() - startedAt);
+                return response;
+            } catch(IOException | RuntimeException e) {
+                // 어떤 예외든 결과를 기록해야 시험 요청(half-open) 중인 프록시가 다시 선택될 수 있다.
+                log.error("프록시 {} 요청 실패. {}", proxy, e.getMessage());
+                proxyPool.recordFailure(proxy);
+                throw e;
+            }
+        };
     }
 
     interface MethodCallback {
-        Document sendRequest(Connection connection, String ip, int port) throws IOException;
+        Connection.Response sendRequest(Connection connection, String ip, int port) throws IOException;
     }
 }
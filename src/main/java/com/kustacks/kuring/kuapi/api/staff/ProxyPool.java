@@ -0,0 +1,166 @@
+package com.kustacks.kuring.kuapi.api.staff;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+    ProxyJsoupClient가 사용하는 프록시 목록과 프록시별 상태
+
+    1. 프록시별로 응답 시간과 성공률의 지수 이동 평균(EWMA)을 기록하고, 점수(응답 시간 / 성공률)가 낮은 순서로 사용한다.
+    2. 요청에 실패한 프록시는 곧바로 차단(circuit open)하고 staff.proxy-open-duration 동안 사용하지 않는다.
+       차단 시간이 지나면 한 번의 요청만 시험 삼아 보내고(half-open), 성공하면 차단을 해제한다.
+    3. 모든 프록시가 차단되었다면 가장 먼저 차단된 프록시로 시험 요청을 보낸다.
+ */
+@Slf4j
+@Component
+public class ProxyPool {
+
+    private static final double ALPHA = 0.3;
+
+    private final List<Proxy> proxies;
+    private final long openDuration;
+
+    public ProxyPool(@Value("${staff.proxy-list}") String proxyList,
+                     @Value("${staff.proxy-open-duration}") long openDuration) {
+
+        this.proxies = Collections.unmodifiableList(Arrays.stream(proxyList.split(","))
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(Proxy::parse)
+                .collect(Collectors.toList()));
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * 지금 요청을 보낼 수 있는 프록시를 점수가 좋은 순서로 반환한다.
+     * 시험 요청으로 선택된 프록시는 결과가 기록될 때까지 다시 선택되지 않는다.
+     */
+    public List<Proxy> select() {
+
+        long now = System.currentTimeMillis();
+
+        List<Proxy> available = new ArrayList<>(proxies.size());
+        for (Proxy proxy : proxies) {
+            if(proxy.tryAcquire(now, openDuration)) {
+                available.add(proxy);
+            }
+        }
+
+        if(available.isEmpty()) {
+            proxies.stream()
+                    .min(Comparator.comparingLong(Proxy::getOpenedAt))
+                    .filter(proxy -> proxy.tryAcquire(Long.MAX_VALUE, openDuration))
+                    .ifPresent(available::add);
+        }
+
+        available.sort(Comparator.comparingDouble(Proxy::score));
+        return available;
+    }
+
+    public void recordSuccess(Proxy proxy, long latencyMillis) {
+        proxy.recordSuccess(latencyMillis);
+    }
+
+    public void recordFailure(Proxy proxy) {
+        if(proxy.recordFailure(System.currentTimeMillis())) {
+            log.warn("[ProxyPool] {} 차단. {}ms 후 다시 시도", proxy, openDuration);
+        }
+    }
+
+    /**
+     * select로 받았지만 요청을 보내지 않은 프록시를 반납한다.
+     */
+    public void release(Collection<Proxy> unusedProxies) {
+        for (Proxy proxy : unusedProxies) {
+            proxy.release();
+        }
+    }
+
+    public List<Proxy> getProxies() {
+        return proxies;
+    }
+
+    public static class Proxy {
+
+        private final String ip;
+        private final int port;
+
+        // 아직 응답 시간을 모르는 경우 0
+        private double ewmaLatency;
+        private double successRate;
+        // 차단되지 않았다면 0
+        private long openedAt;
+        private boolean isTrialInFlight;
+
+        Proxy(String ip, int port) {
+            this.ip = ip;
+            this.port = port;
+            this.successRate = 1.0;
+        }
+
+        static Proxy parse(String address) {
+            String[] ipAndPort = address.split(":");
+            return new Proxy(ipAndPort[0], Integer.parseInt(ipAndPort[1]));
+        }
+
+        public String getIp() {
+            return ip;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        synchronized long getOpenedAt() {
+            return openedAt;
+        }
+
+        synchronized double score() {
+            return ewmaLatency / Math.max(successRate, 0.01);
+        }
+
+        synchronized boolean tryAcquire(long now, long openDuration) {
+
+            if(openedAt == 0) {
+                return true;
+            }
+
+            if(isTrialInFlight || now - openedAt < openDuration) {
+                return false;
+            }
+
+            isTrialInFlight = true;
+            return true;
+        }
+
+        synchronized void release() {
+            isTrialInFlight = false;
+        }
+
+        synchronized void recordSuccess(long latencyMillis) {
+            ewmaLatency = ewmaLatency == 0 ? latencyMillis : ALPHA * latencyMillis + (1 - ALPHA) * ewmaLatency;
+            successRate = ALPHA + (1 - ALPHA) * successRate;
+            openedAt = 0;
+            isTrialInFlight = false;
+        }
+
+        // 새로 차단되었다면 true
+        synchronized boolean recordFailure(long now) {
+            successRate = (1 - ALPHA) * successRate;
+            isTrialInFlight = false;
+
+            boolean isNewlyOpened = openedAt == 0;
+            openedAt = now;
+            return isNewlyOpened;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return ip + ":" + port + " (응답 시간 = " + Math.round(ewmaLatency) + "ms, 성공률 = " + Math.round(successRate * 100) + "%)";
+        }
+    }
+}
@@ -3,9 +3,6 @@ package com.kustacks.kuring.kuapi.api.staff;
 import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.api.APIClient;
 import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
-import org.jsoup.nodes.Document;
-
-import java.util.List;
 
 public interface StaffAPIClient extends APIClient {
 
@@ -13,5 +10,10 @@ public interface StaffAPIClient extends APIClient {
 
     boolean support(DeptInfo deptInfo);
 
-    List<Document> getHTML(DeptInfo deptInfo) throws InternalLogicException;
+    /**
+     * 학과의 교직원 페이지를 수신하는 대로 pageConsumer에 전달한다. 전달한 Document는 보관하지 않는다.
+     * 페이지는 조건부로 요청하며, 이전에 수신한 이후로 바뀌지 않은 페이지는 Document 대신 null을 전달한다.
+     * 여러 페이지를 동시에 수신하는 구현에서는 pageConsumer가 여러 스레드에서 호출될 수 있다.
+     */
+    void getHTML(DeptInfo deptInfo, StaffPageConsumer pageConsumer) throws InternalLogicException;
 }
@@ -0,0 +1,13 @@
+package com.kustacks.kuring.kuapi.api.staff;
+
+import org.jsoup.nodes.Document;
+
+@FunctionalInterface
+public interface StaffPageConsumer {
+
+    /**
+     * @param pageKey 페이지를 구분하는 키. JsoupClient.requestKey와 같다.
+     * @param document 이전에 수신한 이후로 바뀌지 않은 페이지라면 null
+     */
+    void accept(String pageKey, Document document);
+}
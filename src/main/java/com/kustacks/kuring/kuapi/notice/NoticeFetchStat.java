@@ -0,0 +1,83 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.kuapi.CategoryName;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    카테고리별 공지 수신 소요시간 및 성공, 실패, 시간초과 횟수
+ */
+public class NoticeFetchStat {
+
+    private final CategoryName categoryName;
+
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    private volatile long lastElapsedMillis;
+    private volatile long maxElapsedMillis;
+    private volatile String lastFailureReason;
+
+    public NoticeFetchStat(CategoryName categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    void recordSuccess(long elapsedMillis) {
+        successCount.incrementAndGet();
+        recordElapsed(elapsedMillis);
+    }
+
+    void recordFailure(long elapsedMillis, Throwable cause) {
+        failureCount.incrementAndGet();
+        lastFailureReason = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        recordElapsed(elapsedMillis);
+    }
+
+    void recordTimeout() {
+        timeoutCount.incrementAndGet();
+        lastFailureReason = "timeout";
+    }
+
+    private void recordElapsed(long elapsedMillis) {
+        lastElapsedMillis = elapsedMillis;
+        if(elapsedMillis > maxElapsedMillis) {
+            maxElapsedMillis = elapsedMillis;
+        }
+    }
+
+    public CategoryName getCategoryName() {
+        return categoryName;
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getLastElapsedMillis() {
+        return lastElapsedMillis;
+    }
+
+    public long getMaxElapsedMillis() {
+        return maxElapsedMillis;
+    }
+
+    public String getLastFailureReason() {
+        return lastFailureReason;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - 최근 %dms, 최대 %dms, 성공 %d, 실패 %d, 시간초과 %d",
+                categoryName.getName(), lastElapsedMillis, maxElapsedMillis,
+                getSuccessCount(), getFailureCount(), getTimeoutCount());
+    }
+}
@@ -0,0 +1,152 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.api.RequestDeadline;
+import com.kustacks.kuring.kuapi.api.notice.NoticeAPIClient;
+import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
+import io.sentry.Sentry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/*
+    카테고리별 공지 수신을 병렬로 수행한다.
+    한 카테고리의 응답이 느려도 다른 카테고리에는 영향이 없도록, 각 카테고리는 수신을 시작한 후 notice.fetch-timeout 안에 응답해야 하며
+    시간 안에 응답하지 못한 카테고리는 이번 업데이트에서 제외된다.
+    마감 시각은 카테고리마다 수신을 시작할 때 정하므로, 스레드 풀의 큐에서 기다린 시간이나 먼저 기다린 카테고리의 지연은 포함되지 않는다.
+    수신 중 보내는 요청은 RequestDeadline으로 마감 시각까지만 기다리므로, 시간을 초과한 카테고리도 곧 스레드를 반납한다.
+ */
+@Slf4j
+@Component
+public class NoticeFetcher {
+
+    @Value("${notice.fetch-timeout}")
+    private long fetchTimeout;
+
+    private final Map<CategoryName, NoticeAPIClient> noticeAPIClientMap;
+    private final ThreadPoolTaskExecutor noticeFetchExecutor;
+    private final Map<CategoryName, NoticeFetchStat> fetchStats;
+
+    public NoticeFetcher(Map<CategoryName, NoticeAPIClient> noticeAPIClientMap,
+                         ThreadPoolTaskExecutor noticeFetchExecutor) {
+
+        this.noticeAPIClientMap = noticeAPIClientMap;
+        this.noticeFetchExecutor = noticeFetchExecutor;
+
+        fetchStats = new EnumMap<>(CategoryName.class);
+        for (CategoryName categoryName : CategoryName.values()) {
+            fetchStats.put(categoryName, new NoticeFetchStat(categoryName));
+        }
+    }
+
+    public Map<CategoryName, List<CommonNoticeFormatDTO>> fetch(Collection<CategoryName> categoryNames) {
+
+        Map<CategoryName, FetchTask> tasks = new EnumMap<>(CategoryName.class);
+        for (CategoryName categoryName : categoryNames) {
+            FetchTask task = new FetchTask(categoryName);
+            task.future = noticeFetchExecutor.submit(task);
+            tasks.put(categoryName, task);
+        }
+
+        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = new EnumMap<>(CategoryName.class);
+        for (FetchTask task : tasks.values()) {
+            CategoryName categoryName = task.categoryName;
+            try {
+                apiNoticesMap.put(categoryName, await(task));
+            } catch(TimeoutException e) {
+                task.future.cancel(true);
+                fetchStats.get(categoryName).recordTimeout();
+                log.warn("[NoticeFetcher] {} 공지 수신 시간 초과 ({}ms)", categoryName.getName(), fetchTimeout);
+            } catch(ExecutionException e) {
+                handleFetchFailure(categoryName, e.getCause());
+            } catch(InterruptedException e) {
+                log.warn("[NoticeFetcher] 공지 수신 대기 중 인터럽트 발생");
+                tasks.values().forEach(t -> t.future.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        for (CategoryName categoryName : categoryNames) {
+            log.info("[NoticeFetcher] {}", fetchStats.get(categoryName));
+        }
+
+        return apiNoticesMap;
+    }
+
+    public Map<CategoryName, NoticeFetchStat> getFetchStats() {
+        return Collections.unmodifiableMap(fetchStats);
+    }
+
+    /**
+     * 카테고리의 마감 시각까지 수신 결과를 기다린다.
+     * 아직 수신을 시작하지 않은 카테고리는 notice.fetch-timeout 동안 시작하기를 기다리고, 그 사이 시작했다면 그 카테고리의 마감 시각까지 기다린다.
+     */
+    private List<CommonNoticeFormatDTO> await(FetchTask task) throws TimeoutException, ExecutionException, InterruptedException {
+
+        while(true) {
+            long deadline = task.deadline;
+            long waitMillis = deadline == 0 ? fetchTimeout : deadline - System.currentTimeMillis();
+            try {
+                return task.future.get(Math.max(waitMillis, 0), TimeUnit.MILLISECONDS);
+            } catch(TimeoutException e) {
+                if(deadline == 0 && task.deadline != 0) {
+                    continue;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private List<CommonNoticeFormatDTO> fetchAndRecord(CategoryName categoryName, long deadline) {
+
+        NoticeFetchStat fetchStat = fetchStats.get(categoryName);
+        long start = System.currentTimeMillis();
+        try {
+            List<CommonNoticeFormatDTO> notices = RequestDeadline.call(deadline, () -> noticeAPIClientMap.get(categoryName).getNotices(categoryName));
+            fetchStat.recordSuccess(System.currentTimeMillis() - start);
+            return notices;
+        } catch(RuntimeException e) {
+            fetchStat.recordFailure(System.currentTimeMillis() - start, e);
+            throw e;
+        }
+    }
+
+    private class FetchTask implements Callable<List<CommonNoticeFormatDTO>> {
+
+        private final CategoryName categoryName;
+        private Future<List<CommonNoticeFormatDTO>> future;
+        // 수신을 시작하지 않았다면 0
+        private volatile long deadline;
+
+        FetchTask(CategoryName categoryName) {
+            this.categoryName = categoryName;
+        }
+
+        @Override
+        public List<CommonNoticeFormatDTO> call() {
+            deadline = System.currentTimeMillis() + fetchTimeout;
+            return fetchAndRecord(categoryName, deadline);
+        }
+    }
+
+    private void handleFetchFailure(CategoryName categoryName, Throwable cause) {
+
+        if(cause instanceof InternalLogicException) {
+            InternalLogicException e = (InternalLogicException) cause;
+            log.info("{}", e.getErrorCode().getMessage());
+            if(ErrorCode.KU_LOGIN_BAD_RESPONSE.equals(e.getErrorCode())) {
+                Sentry.captureException(e);
+            }
+        } else {
+            log.error("[NoticeFetcher] {} 공지 수신 중 알 수 없는 오류가 발생했습니다.", categoryName.getName(), cause);
+            Sentry.captureException(cause);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.kustacks.kuring.controller.dto.NoticeMessageDTO;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutbox;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxRepository;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxStatus;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
+import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.util.converter.DTOConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+    notice_outbox에 쌓인 새 공지 알림을 FCM으로 전송한다.
+
+    공지 동기화(NoticeUpdater)와 별도의 스케줄로 동작하므로, FCM 장애가 공지 동기화를 막지 않는다.
+    전송에 실패한 알림은 대기 시간을 두 배씩 늘려가며 다시 시도하고, notice.outbox-max-attempts번 실패하면 FAILED로 남긴다.
+    FCM 전송의 재시도는 여기서만 한다. 일시적인 오류가 아닌 실패(잘못된 메세지 등)는 다시 시도하지 않고 바로 FAILED로 남긴다.
+    전송 후 상태를 저장하기 전에 서버가 종료되면 같은 알림이 한 번 더 전송될 수 있다. (at-least-once)
+    서버가 여러 대라면 알림 전송 잠금(notice-outbox)을 얻은 서버만 전송해서, 같은 알림을 서버마다 보내지 않는다.
+    잠금은 회차마다 반납하지 않고 잃을 때까지 계속 갖고 있다. 전송 결과는 NoticeOutboxRecorder가 잠금을 확인한 트랜잭션에서 저장하며,
+    전송 중에 잠금을 잃었다면 저장하지 않고 잠금을 가져간 서버가 그 알림을 다시 전송한다.
+ */
+@Slf4j
+@Component
+public class NoticeOutboxDispatcher {
+
+    private final int SENT_RETENTION_DAYS = 7;
+    private static final String LOCK_NAME = "notice-outbox";
+
+    private final NoticeOutboxRepository noticeOutboxRepository;
+    private final NoticeOutboxRecorder noticeOutboxRecorder;
+    private final FirebaseService firebaseService;
+    private final DTOConverter dtoConverter;
+    private final SchedulerLockManager schedulerLockManager;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoff;
+
+    private SchedulerLockManager.Lease lease;
+
+    public NoticeOutboxDispatcher(NoticeOutboxRepository noticeOutboxRepository,
+                                  NoticeOutboxRecorder noticeOutboxRecorder,
+                                  FirebaseService firebaseService,
+                                  DTOConverter noticeOutboxToNoticeMessageDTOConverter,
+                                  SchedulerLockManager schedulerLockManager,
+                                  @Value("${notice.outbox-batch-size}") int batchSize,
+                                  @Value("${notice.outbox-max-attempts}") int maxAttempts,
+                                  @Value("${notice.outbox-retry-backoff}") long retryBackoff) {
+
+        this.noticeOutboxRepository = noticeOutboxRepository;
+        this.noticeOutboxRecorder = noticeOutboxRecorder;
+        this.firebaseService = firebaseService;
+        this.dtoConverter = noticeOutboxToNoticeMessageDTOConverter;
+        this.schedulerLockManager = schedulerLockManager;
+
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${notice.outbox-dispatch-delay}")
+    public synchronized void dispatch() {
+
+        lease = schedulerLockManager.keepOrAcquire(LOCK_NAME, lease).orElse(null);
+        if(lease == null) {
+            return;
+        }
+
+        LocalDateTime startDate = LocalDateTime.now();
+
+        // 이번 회차에 전송 시도한 알림은 다음 시도 시각이 미래로 밀리므로, 같은 알림을 두 번 가져오지 않는다.
+        List<NoticeOutbox> outboxes;
+        while(!(outboxes = noticeOutboxRepository.findByStatusAndNextAttemptDateLessThanEqualOrderByIdAsc(
+                NoticeOutboxStatus.PENDING, startDate, PageRequest.of(0, batchSize))).isEmpty()) {
+
+            // 잠금을 잃었다면 다른 서버가 남은 알림을 전송한다.
+            if(!dispatchBatch(outboxes, lease) || outboxes.size() < batchSize || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = 1, timeUnit = TimeUnit.DAYS)
+    public void cleanUp() {
+
+        int deletedCount = noticeOutboxRepository.deleteByStatusAndSentDateBefore(NoticeOutboxStatus.SENT, LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+        log.info("[NoticeOutboxDispatcher] 전송 완료된 알림 {}개 삭제", deletedCount);
+    }
+
+    /**
+     * outboxes를 전송하고 결과를 저장한다. 잠금을 잃어 결과를 저장하지 않았다면 false를 반환한다.
+     */
+    boolean dispatchBatch(List<NoticeOutbox> outboxes, SchedulerLockManager.Lease lease) {
+
+        if(lease.isLost()) {
+            log.warn("[NoticeOutboxDispatcher] 알림 전송 잠금을 잃어 전송을 중단합니다.");
+            return false;
+        }
+
+        Map<NoticeMessageDTO, NoticeOutbox> outboxMap = new IdentityHashMap<>();
+        List<NoticeMessageDTO> messageDTOList = new ArrayList<>(outboxes.size());
+        for (NoticeOutbox outbox : outboxes) {
+            NoticeMessageDTO messageDTO = (NoticeMessageDTO) dtoConverter.convert(outbox);
+            outboxMap.put(messageDTO, outbox);
+            messageDTOList.add(messageDTO);
+        }
+
+        Map<NoticeMessageDTO, FirebaseMessagingException> failedMessages = new IdentityHashMap<>();
+        try {
+            failedMessages.putAll(firebaseService.sendMessages(messageDTOList));
+        } catch(Exception e) {
+            log.error("[NoticeOutboxDispatcher] 알림을 FCM에 보내는 중 알 수 없는 오류가 발생했습니다.", e);
+            for (NoticeMessageDTO messageDTO : messageDTOList) {
+                failedMessages.put(messageDTO, null);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (NoticeMessageDTO messageDTO : messageDTOList) {
+            NoticeOutbox outbox = outboxMap.get(messageDTO);
+            if(failedMessages.containsKey(messageDTO)) {
+                FirebaseMessagingException e = failedMessages.get(messageDTO);
+                markFailed(outbox, now, e == null || firebaseService.isRetryable(e));
+            } else {
+                outbox.setStatus(NoticeOutboxStatus.SENT);
+                outbox.setSentDate(now);
+                log.info("아이디 = {}, 날짜 = {}, 카테고리 = {}, 제목 = {}", messageDTO.getArticleId(), messageDTO.getPostedDate(), messageDTO.getCategory(), messageDTO.getSubject());
+            }
+        }
+
+        log.info("[NoticeOutboxDispatcher] FCM에 메세지를 전송했습니다. 성공 = {}, 실패 = {}", messageDTOList.size() - failedMessages.size(), failedMessages.size());
+
+        // 전송하는 동안 잠금을 잃었다면 다른 서버가 이미 같은 알림의 상태를 바꿨을 수 있으므로 덮어쓰지 않는다.
+        try {
+            noticeOutboxRecorder.save(outboxes, lease);
+        } catch(InternalLogicException e) {
+            if(e.getErrorCode() != ErrorCode.SCHEDULER_LOCK_LOST) {
+                throw e;
+            }
+            log.warn("[NoticeOutboxDispatcher] 알림 전송 잠금을 잃어 전송 결과를 저장하지 않습니다. 알림 = {}개", outboxes.size());
+            return false;
+        }
+
+        return true;
+    }
+
+    private void markFailed(NoticeOutbox outbox, LocalDateTime now, boolean isRetryable) {
+
+        int attemptCount = outbox.getAttemptCount() + 1;
+        outbox.setAttemptCount(attemptCount);
+
+        if(!isRetryable) {
+            outbox.setStatus(NoticeOutboxStatus.FAILED);
+            log.error("[NoticeOutboxDispatcher] 다시 시도할 수 없는 오류로 알림 전송에 실패했습니다. 아이디 = {}, 카테고리 = {}", outbox.getArticleId(), outbox.getCategoryName());
+        } else if(attemptCount >= maxAttempts) {
+            outbox.setStatus(NoticeOutboxStatus.FAILED);
+            log.error("[NoticeOutboxDispatcher] 알림 전송을 {}번 실패하여 포기합니다. 아이디 = {}, 카테고리 = {}", attemptCount, outbox.getArticleId(), outbox.getCategoryName());
+        } else {
+            long backoff = retryBackoff << Math.min(attemptCount - 1, 20);
+            outbox.setNextAttemptDate(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff)));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutbox;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxRepository;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/*
+    NoticeOutboxDispatcher가 전송한 알림의 상태를 저장한다.
+    잠금 확인과 저장을 한 트랜잭션에서 하므로, 잠금을 잃은 서버는 새로 잠금을 얻은 서버가 저장한 상태를 덮어쓰지 않는다.
+ */
+@Component
+public class NoticeOutboxRecorder {
+
+    private final NoticeOutboxRepository noticeOutboxRepository;
+    private final SchedulerLockManager schedulerLockManager;
+
+    public NoticeOutboxRecorder(NoticeOutboxRepository noticeOutboxRepository, SchedulerLockManager schedulerLockManager) {
+        this.noticeOutboxRepository = noticeOutboxRepository;
+        this.schedulerLockManager = schedulerLockManager;
+    }
+
+    /**
+     * lease를 잃었다면 아무것도 저장하지 않고 InternalLogicException(SCHEDULER_LOCK_LOST)을 던진다.
+     */
+    @Transactional
+    public void save(List<NoticeOutbox> outboxes, SchedulerLockManager.Lease lease) {
+
+        // 트랜잭션이 끝날 때까지 잠금 행을 붙잡아, 그 사이 다른 서버가 잠금을 가져가지 못하게 한다.
+        schedulerLockManager.validate(lease);
+
+        noticeOutboxRepository.saveAll(outboxes);
+    }
+}
@@ -0,0 +1,186 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.kuapi.CategoryName;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+
+/*
+    카테고리별 공지 수신 주기를 정한다.
+
+    카테고리별로 게시판이 바뀐 횟수를 시간에 따라 지수적으로 감쇠시키며 누적해서 시간당 변경률을 추정하고,
+    시간대(0~23시)별 변경 횟수로 현재 시간대가 평소보다 바쁜지를 반영한다.
+    한 번 수신할 때 기대되는 변경 수가 notice.poll-target-changes가 되도록 다음 수신까지의 간격을 정하되,
+    notice.poll-min-interval과 notice.poll-max-interval 사이로 제한한다.
+    기록이 없는 카테고리는 notice.poll-default-interval 간격으로 수신하는 것과 같은 변경률에서 시작한다.
+    수신이나 동기화에 연속으로 실패한 카테고리는 실패할 때마다 간격을 두 배로 늘린다. (notice.poll-max-interval까지)
+ */
+@Slf4j
+@Component
+public class NoticePollingPolicy {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+    // 변경률 추정에 반영되는 기간(시간 상수). 3일 전의 변경은 영향이 1/e로 줄어든다.
+    // 시간대별 패턴은 더 오래 기억한다.
+    private static final double RATE_TIME_CONSTANT_HOURS = 3 * 24;
+    private static final double HOUR_OF_DAY_TIME_CONSTANT_HOURS = 14 * 24;
+
+    private static final double MIN_HOUR_OF_DAY_FACTOR = 0.25;
+    private static final double MAX_HOUR_OF_DAY_FACTOR = 4.0;
+
+    private final long minInterval;
+    private final long maxInterval;
+    private final double targetChangesPerPoll;
+    private final ZoneId zoneId;
+
+    private final Map<CategoryName, CategoryState> states;
+
+    public NoticePollingPolicy(@Value("${notice.poll-min-interval}") long minInterval,
+                               @Value("${notice.poll-max-interval}") long maxInterval,
+                               @Value("${notice.poll-default-interval}") long defaultInterval,
+                               @Value("${notice.poll-target-changes}") double targetChangesPerPoll) {
+
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.targetChangesPerPoll = targetChangesPerPoll;
+        this.zoneId = ZoneId.systemDefault();
+
+        double initialRatePerHour = targetChangesPerPoll / ((double) defaultInterval / HOUR_MILLIS);
+
+        this.states = new EnumMap<>(CategoryName.class);
+        for (CategoryName categoryName : CategoryName.values()) {
+            states.put(categoryName, new CategoryState(initialRatePerHour * RATE_TIME_CONSTANT_HOURS));
+        }
+    }
+
+    /**
+     * now 시각에 수신해야 하는 카테고리를 반환한다.
+     */
+    public synchronized List<CategoryName> dueCategories(long now) {
+
+        List<CategoryName> dueCategories = new LinkedList<>();
+        for (Map.Entry<CategoryName, CategoryState> entry : states.entrySet()) {
+            if(entry.getValue().nextPollAt <= now) {
+                dueCategories.add(entry.getKey());
+            }
+        }
+
+        return dueCategories;
+    }
+
+    /**
+     * 수신 결과를 기록하고 다음 수신 시각을 정한다.
+     *
+     * @param isChanged 게시판에 새로 생기거나 삭제된 공지가 있었는지
+     */
+    public synchronized void recordPoll(CategoryName categoryName, boolean isChanged, long now) {
+
+        CategoryState state = states.get(categoryName);
+        int hourOfDay = hourOfDay(now);
+
+        state.decay(now);
+        if(isChanged) {
+            state.rateScore += 1;
+            state.hourOfDayScores[hourOfDay] += 1;
+        }
+
+        long interval = interval(state, hourOfDay);
+        state.nextPollAt = now + interval;
+        state.consecutiveFailures = 0;
+
+        log.info("[NoticePollingPolicy] {} 변경 = {}, 추정 변경률 = {}회/일, 다음 수신까지 {}초",
+                categoryName.getName(), isChanged, String.format("%.2f", ratePerHour(state, hourOfDay) * 24), interval / 1000);
+    }
+
+    /**
+     * 수신이나 동기화에 실패한 카테고리는 변경률을 바꾸지 않고, 지금까지의 변경률로 정한 간격 후에 다시 수신한다.
+     * 연속으로 실패했다면 실패 횟수만큼 간격을 두 배씩 늘린다.
+     */
+    public synchronized void recordFailure(CategoryName categoryName, long now) {
+
+        CategoryState state = states.get(categoryName);
+        state.decay(now);
+
+        long interval = interval(state, hourOfDay(now));
+        for (int i=0; i<state.consecutiveFailures && interval < maxInterval; ++i) {
+            interval *= 2;
+        }
+        interval = Math.min(maxInterval, interval);
+
+        state.nextPollAt = now + interval;
+        ++state.consecutiveFailures;
+
+        log.warn("[NoticePollingPolicy] {} 연속 실패 = {}, 다음 수신까지 {}초", categoryName.getName(), state.consecutiveFailures, interval / 1000);
+    }
+
+    public synchronized long getNextPollAt(CategoryName categoryName) {
+        return states.get(categoryName).nextPollAt;
+    }
+
+    private long interval(CategoryState state, int hourOfDay) {
+
+        double ratePerHour = ratePerHour(state, hourOfDay);
+        if(ratePerHour <= 0) {
+            return maxInterval;
+        }
+
+        long interval = (long) (targetChangesPerPoll / ratePerHour * HOUR_MILLIS);
+        return Math.max(minInterval, Math.min(maxInterval, interval));
+    }
+
+    // 시간당 변경률 추정치에 현재 시간대의 가중치를 곱한 값
+    private double ratePerHour(CategoryState state, int hourOfDay) {
+
+        double ratePerHour = state.rateScore / RATE_TIME_CONSTANT_HOURS;
+
+        double totalHourOfDayScore = Arrays.stream(state.hourOfDayScores).sum();
+        if(totalHourOfDayScore <= 0) {
+            return ratePerHour;
+        }
+
+        double hourOfDayFactor = state.hourOfDayScores[hourOfDay] / (totalHourOfDayScore / 24);
+        hourOfDayFactor = Math.max(MIN_HOUR_OF_DAY_FACTOR, Math.min(MAX_HOUR_OF_DAY_FACTOR, hourOfDayFactor));
+
+        return ratePerHour * hourOfDayFactor;
+    }
+
+    private int hourOfDay(long now) {
+        return Instant.ofEpochMilli(now).atZone(zoneId).getHour();
+    }
+
+    private static class CategoryState {
+
+        private double rateScore;
+        private final double[] hourOfDayScores;
+        private long lastRecordedAt;
+        private long nextPollAt;
+        private int consecutiveFailures;
+
+        CategoryState(double initialRateScore) {
+            this.rateScore = initialRateScore;
+            this.hourOfDayScores = new double[24];
+            this.lastRecordedAt = 0;
+            this.nextPollAt = 0;
+        }
+
+        void decay(long now) {
+
+            if(lastRecordedAt > 0 && now > lastRecordedAt) {
+                double elapsedHours = (double) (now - lastRecordedAt) / HOUR_MILLIS;
+                rateScore *= Math.exp(-elapsedHours / RATE_TIME_CONSTANT_HOURS);
+
+                double hourOfDayDecay = Math.exp(-elapsedHours / HOUR_OF_DAY_TIME_CONSTANT_HOURS);
+                for (int i=0; i<hourOfDayScores.length; ++i) {
+                    hourOfDayScores[i] *= hourOfDayDecay;
+                }
+            }
+
+            lastRecordedAt = now;
+        }
+    }
+}
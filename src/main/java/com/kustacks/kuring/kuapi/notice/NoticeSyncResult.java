@@ -0,0 +1,24 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.domain.notice.Notice;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/*
+    한 카테고리의 공지 동기화 결과. 새로 추가된 공지와 삭제된 공지를 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeSyncResult {
+
+    private final List<Notice> newNotices;
+    private final Collection<Notice> removedNotices;
+
+    public static NoticeSyncResult empty() {
+        return new NoticeSyncResult(Collections.emptyList(), Collections.emptyList());
+    }
+}
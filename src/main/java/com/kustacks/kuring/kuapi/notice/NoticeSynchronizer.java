@@ -0,0 +1,231 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.domain.category.Category;
+import com.kustacks.kuring.domain.notice.Notice;
+import com.kustacks.kuring.domain.notice.NoticeRepository;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutbox;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxRepository;
+import com.kustacks.kuring.domain.notice_watermark.NoticeWatermark;
+import com.kustacks.kuring.domain.notice_watermark.NoticeWatermarkRepository;
+import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
+import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+    수신한 공지 목록과 DB를 카테고리 단위로 동기화한다.
+
+    카테고리별 워터마크(notice_watermark)에 마지막으로 동기화한 articleId 목록의 해시를 저장해두고
+    1. 수신한 목록의 해시가 워터마크와 같으면 DB를 조회하지 않는다.
+    2. 직전에 동기화한 articleId 목록을 메모리에 갖고 있고, 그 목록이 워터마크와 일치하면
+       새로 생긴 공지와 사라진 공지만 DB에서 조회, 추가, 삭제한다.
+    3. 그 외(서버 재시작 직후 등)에는 수신한 공지를 모두 upsert하고, 수신한 목록에 없는 공지를 DB에서 찾아 삭제한다.
+    공지는 (category_name, article_id) 유일 키에 대한 upsert로 삽입하므로, 동기화가 겹쳐도 같은 공지가 두 번 삽입되거나
+    두 번 알림 대기열에 추가되지 않는다. 새 공지는 upsert가 실제로 삽입했다고 알려준 공지만으로 정한다.
+
+    새 공지의 알림은 같은 트랜잭션에서 notice_outbox에 저장하고, 실제 전송은 NoticeOutboxDispatcher가 맡는다.
+    트랜잭션을 시작하면 먼저 공지 동기화 잠금을 확인하므로, 잠금을 잃은 서버의 동기화는 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class NoticeSynchronizer {
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeWatermarkRepository noticeWatermarkRepository;
+    private final NoticeOutboxRepository noticeOutboxRepository;
+    private final SchedulerLockManager schedulerLockManager;
+
+    private final Map<CategoryName, SyncedSnapshot> syncedSnapshots;
+
+    public NoticeSynchronizer(NoticeRepository noticeRepository, NoticeWatermarkRepository noticeWatermarkRepository, NoticeOutboxRepository noticeOutboxRepository, SchedulerLockManager schedulerLockManager) {
+
+        this.noticeRepository = noticeRepository;
+        this.noticeWatermarkRepository = noticeWatermarkRepository;
+        this.noticeOutboxRepository = noticeOutboxRepository;
+        this.schedulerLockManager = schedulerLockManager;
+
+        this.syncedSnapshots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * categoryName 카테고리의 공지를 apiNotices와 같아지도록 DB에 반영한다.
+     * lease를 잃었다면 아무것도 반영하지 않고 InternalLogicException(SCHEDULER_LOCK_LOST)을 던진다.
+     *
+     * @return 새로 추가된 공지와 삭제된 공지
+     */
+    @Transactional
+    public NoticeSyncResult synchronize(CategoryName categoryName, Category category, List<CommonNoticeFormatDTO> apiNotices, SchedulerLockManager.Lease lease) {
+
+        // 트랜잭션이 끝날 때까지 잠금 행을 붙잡아, 그 사이 다른 서버가 잠금을 가져가지 못하게 한다.
+        schedulerLockManager.validate(lease);
+
+        Map<String, CommonNoticeFormatDTO> apiNoticeMap = new LinkedHashMap<>();
+        for (CommonNoticeFormatDTO apiNotice : apiNotices) {
+            apiNoticeMap.putIfAbsent(apiNotice.getArticleId(), apiNotice);
+        }
+
+        String contentHash = hash(apiNoticeMap.keySet());
+        NoticeWatermark watermark = noticeWatermarkRepository.findById(categoryName.getName()).orElse(null);
+
+        // 1. 게시판 변화 없음
+        if(watermark != null && watermark.getContentHash().equals(contentHash)) {
+            syncedSnapshots.put(categoryName, new SyncedSnapshot(contentHash, apiNoticeMap.keySet()));
+            log.info("[NoticeSynchronizer] {} 변경사항 없음", categoryName.getName());
+            return NoticeSyncResult.empty();
+        }
+
+        SyncedSnapshot snapshot = syncedSnapshots.get(categoryName);
+        boolean isSnapshotValid = watermark != null && snapshot != null && snapshot.getContentHash().equals(watermark.getContentHash());
+
+        NoticeSyncResult syncResult;
+        if(isSnapshotValid) {
+            // 2. 변경된 공지만 반영
+            syncResult = synchronizeDelta(category, apiNoticeMap, snapshot.getArticleIds());
+        } else {
+            // 3. 카테고리 전체 비교
+            syncResult = synchronizeAll(category, apiNoticeMap);
+        }
+
+        saveOutbox(syncResult.getNewNotices());
+        saveWatermark(categoryName, watermark, apiNoticeMap.values(), contentHash);
+        syncedSnapshots.put(categoryName, new SyncedSnapshot(contentHash, apiNoticeMap.keySet()));
+
+        return syncResult;
+    }
+
+    private NoticeSyncResult synchronizeDelta(Category category, Map<String, CommonNoticeFormatDTO> apiNoticeMap, Set<String> syncedArticleIds) {
+
+        Set<String> addedArticleIds = new HashSet<>(apiNoticeMap.keySet());
+        addedArticleIds.removeAll(syncedArticleIds);
+
+        Set<String> removedArticleIds = new HashSet<>(syncedArticleIds);
+        removedArticleIds.removeAll(apiNoticeMap.keySet());
+
+        // 업데이트로 인해 없어져야될 공지 삭제
+        List<Notice> removedNotices = Collections.emptyList();
+        if(!removedArticleIds.isEmpty()) {
+            removedNotices = noticeRepository.findByCategoryAndArticleIdIn(category, removedArticleIds);
+            deleteNotices(removedNotices);
+        }
+
+        List<Notice> addedNotices = new LinkedList<>();
+        for (CommonNoticeFormatDTO apiNotice : apiNoticeMap.values()) {
+            if(addedArticleIds.contains(apiNotice.getArticleId())) {
+                addedNotices.add(toEntity(apiNotice, category));
+            }
+        }
+
+        // 업데이트로 인해 새로 생성된 공지 삽입. DB에 이미 존재하는 공지는 upsert가 건너뛴다.
+        List<Notice> newNotices = noticeRepository.upsertAllInBatch(addedNotices);
+
+        return new NoticeSyncResult(newNotices, removedNotices);
+    }
+
+    private NoticeSyncResult synchronizeAll(Category category, Map<String, CommonNoticeFormatDTO> apiNoticeMap) {
+
+        // 수신한 목록에 없는, DB에 존재하는 공지
+        List<Notice> removedNotices = apiNoticeMap.isEmpty()
+                ? noticeRepository.findByCategory(category)
+                : noticeRepository.findByCategoryAndArticleIdNotIn(category, apiNoticeMap.keySet());
+
+        // 업데이트로 인해 없어져야될 공지 삭제
+        deleteNotices(removedNotices);
+
+        // 수신한 공지를 모두 upsert하고, 그 중 실제로 삽입된 공지만 새 공지로 본다.
+        List<Notice> apiNoticeEntities = new ArrayList<>(apiNoticeMap.size());
+        for (CommonNoticeFormatDTO apiNotice : apiNoticeMap.values()) {
+            apiNoticeEntities.add(toEntity(apiNotice, category));
+        }
+        List<Notice> newNotices = noticeRepository.upsertAllInBatch(apiNoticeEntities);
+
+        return new NoticeSyncResult(newNotices, removedNotices);
+    }
+
+    private void deleteNotices(Collection<Notice> notices) {
+        noticeRepository.deleteAllByIdInChunks(notices.stream().map(Notice::getId).collect(Collectors.toList()));
+    }
+
+    private void saveOutbox(Collection<Notice> newNotices) {
+
+        if(newNotices.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NoticeOutbox> outboxes = new ArrayList<>(newNotices.size());
+        for (Notice notice : newNotices) {
+            outboxes.add(NoticeOutbox.builder()
+                    .articleId(notice.getArticleId())
+                    .postedDate(notice.getPostedDate())
+                    .subject(notice.getSubject())
+                    .categoryName(notice.getCategory().getName())
+                    .createdDate(now)
+                    .build());
+        }
+
+        noticeOutboxRepository.saveAll(outboxes);
+    }
+
+    private void saveWatermark(CategoryName categoryName, NoticeWatermark watermark, Collection<CommonNoticeFormatDTO> apiNotices, String contentHash) {
+
+        CommonNoticeFormatDTO latestNotice = apiNotices.stream()
+                .max(Comparator.comparing(CommonNoticeFormatDTO::getPostedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElse(null);
+
+        if(watermark == null) {
+            watermark = NoticeWatermark.builder().categoryName(categoryName.getName()).build();
+        }
+
+        watermark.setLatestArticleId(latestNotice == null ? null : latestNotice.getArticleId());
+        watermark.setLatestPostedDate(latestNotice == null ? null : latestNotice.getPostedDate());
+        watermark.setArticleCount(apiNotices.size());
+        watermark.setContentHash(contentHash);
+        watermark.setSyncedDate(LocalDateTime.now());
+
+        noticeWatermarkRepository.save(watermark);
+    }
+
+    private Notice toEntity(CommonNoticeFormatDTO apiNotice, Category category) {
+        return Notice.builder()
+                .articleId(apiNotice.getArticleId())
+                .postedDate(apiNotice.getPostedDate())
+                .postedAt(apiNotice.getPostedAt())
+                .updatedDate(apiNotice.getUpdatedDate())
+                .subject(apiNotice.getSubject())
+                .category(category)
+                .build();
+    }
+
+    private String hash(Collection<String> articleIds) {
+        String joined = articleIds.stream().sorted().collect(Collectors.joining("\n"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class SyncedSnapshot {
+
+        private final String contentHash;
+        private final Set<String> articleIds;
+
+        SyncedSnapshot(String contentHash, Set<String> articleIds) {
+            this.contentHash = contentHash;
+            this.articleIds = Collections.unmodifiableSet(new HashSet<>(articleIds));
+        }
+
+        String getContentHash() {
+            return contentHash;
+        }
+
+        Set<String> getArticleIds() {
+            return articleIds;
+        }
+    }
+}
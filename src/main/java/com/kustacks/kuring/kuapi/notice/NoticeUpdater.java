@@ -1,170 +1,219 @@
 package com.kustacks.kuring.kuapi.notice;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.kustacks.kuring.controller.dto.NoticeDTO;
-import com.kustacks.kuring.controller.dto.NoticeMessageDTO;
 import com.kustacks.kuring.domain.category.Category;
 import com.kustacks.kuring.domain.category.CategoryRepository;
 import com.kustacks.kuring.domain.notice.Notice;
 import com.kustacks.kuring.domain.notice.NoticeRepository;
+import com.kustacks.kuring.domain.notice_watermark.NoticeWatermark;
+import com.kustacks.kuring.domain.notice_watermark.NoticeWatermarkRepository;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.event.SearchDataUpdatedEvent;
 import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
 import com.kustacks.kuring.kuapi.Updater;
-import com.kustacks.kuring.kuapi.api.notice.KuisNoticeAPIClient;
-import com.kustacks.kuring.kuapi.api.notice.LibraryNoticeAPIClient;
-import com.kustacks.kuring.kuapi.api.notice.NoticeAPIClient;
 import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
-import com.kustacks.kuring.service.FirebaseService;
-import com.kustacks.kuring.util.converter.DTOConverter;
-import com.kustacks.kuring.util.converter.DateConverter;
-import com.kustacks.kuring.util.converter.NoticeEntityToNoticeDTOConverter;
+import com.kustacks.kuring.service.NoticeCache;
+import com.kustacks.kuring.service.search.NoticeSearchIndex;
 import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 
+/*
+    서버가 여러 대라면 공지 동기화 잠금(notice-updater)을 가진 한 서버만 공지를 수신해서 DB에 반영한다.
+    잠금을 얻은 서버는 잠금을 잃을 때까지 계속 갖고 있고, 나머지 서버는 lock.follower-retry-interval마다 잠금을 얻어보면서
+    poll마다 notice_watermark의 동기화 시각이 바뀐 카테고리의 공지 목록 캐시와 검색 색인만 DB에서 다시 읽는다.
+ */
 @Slf4j
 @Component
 public class NoticeUpdater implements Updater {
 
-    private final Map<CategoryName, NoticeAPIClient> noticeAPIClientMap;
-    private final DTOConverter dtoConverter;
-    private final DateConverter dateConverter;
-    private final FirebaseService firebaseService;
-    private final NoticeRepository noticeRepository;
+    private static final String LOCK_NAME = "notice-updater";
+
+    private final NoticeFetcher noticeFetcher;
+    private final NoticeSynchronizer noticeSynchronizer;
     private final CategoryRepository categoryRepository;
+    private final NoticeCache noticeCache;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final NoticePollingPolicy noticePollingPolicy;
+    private final SchedulerLockManager schedulerLockManager;
+    private final NoticeRepository noticeRepository;
+    private final NoticeWatermarkRepository noticeWatermarkRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     private Map<String, Category> categoryMap;
+    private SchedulerLockManager.Lease lease;
+
+    // 다른 서버가 동기화한 결과를 반영할 때 사용하는, 카테고리별로 마지막으로 확인한 동기화 시각
+    private final Map<String, LocalDateTime> observedSyncedDates;
+
+    public NoticeUpdater(NoticeFetcher noticeFetcher,
+                         NoticeSynchronizer noticeSynchronizer,
+                         CategoryRepository categoryRepository,
+                         NoticeCache noticeCache,
+                         NoticeSearchIndex noticeSearchIndex,
+                         NoticePollingPolicy noticePollingPolicy,
+                         SchedulerLockManager schedulerLockManager,
+                         NoticeRepository noticeRepository,
+                         NoticeWatermarkRepository noticeWatermarkRepository,
+                         ApplicationEventPublisher applicationEventPublisher) {
 
-    public NoticeUpdater(FirebaseService firebaseService,
+        this.noticeFetcher = noticeFetcher;
+        this.noticeSynchronizer = noticeSynchronizer;
+        this.categoryRepository = categoryRepository;
+        this.noticeCache = noticeCache;
+        this.noticeSearchIndex = noticeSearchIndex;
+        this.noticePollingPolicy = noticePollingPolicy;
+        this.schedulerLockManager = schedulerLockManager;
+        this.noticeRepository = noticeRepository;
+        this.noticeWatermarkRepository = noticeWatermarkRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
 
-                         DTOConverter noticeEntityToNoticeMessageDTOConverter,
-                         DateConverter ymdhmsToYmdConverter,
-                         Map<CategoryName, NoticeAPIClient> noticeAPIClientMap,
+        this.observedSyncedDates = new ConcurrentHashMap<>();
+    }
 
-                         NoticeRepository noticeRepository,
-                         CategoryRepository categoryRepository) {
+    /**
+     * 모든 카테고리의 공지를 수신 주기와 관계없이 갱신한다.
+     */
+    @Override
+    public void update() {
+        update(Arrays.asList(CategoryName.values()));
+    }
 
-        this.dtoConverter = noticeEntityToNoticeMessageDTOConverter;
-        this.dateConverter = ymdhmsToYmdConverter;
-        this.noticeAPIClientMap = noticeAPIClientMap;
+    /**
+     * notice.poll-tick마다 수신할 때가 된 카테고리만 갱신한다.
+     * 카테고리별 수신 주기는 NoticePollingPolicy가 게시판의 변경 빈도에 따라 정한다.
+     */
+    @Scheduled(fixedDelayString = "${notice.poll-tick}")
+    public void poll() {
 
-        this.firebaseService = firebaseService;
+        List<CategoryName> dueCategories = noticePollingPolicy.dueCategories(System.currentTimeMillis());
+        if(dueCategories.isEmpty()) {
+            return;
+        }
 
-        this.noticeRepository = noticeRepository;
-        this.categoryRepository = categoryRepository;
+        update(dueCategories);
     }
 
-    @Override
-    @Scheduled(fixedRate = 10, timeUnit = TimeUnit.MINUTES)
-    public void update() {
+    private synchronized void update(List<CategoryName> categoryNames) {
+
+        lease = schedulerLockManager.keepOrAcquire(LOCK_NAME, lease).orElse(null);
+        if(lease == null) {
+            refreshFromLeader();
+            return;
+        }
 
         log.info("========== 공지 업데이트 시작 ==========");
 
         /*
-            학사, 장학, 취창업, 국제, 학생, 산학, 일반, 도서관 공지 갱신
+            학사, 장학, 취창업, 국제, 학생, 산학, 일반, 도서관 공지 중 categoryNames 갱신
          */
-        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = new HashMap<>(); // 수신한 공지 데이터를 저장할 변수
-        for (CategoryName categoryName : CategoryName.values()) {
-            List<CommonNoticeFormatDTO> commonNoticeFormatDTO;
-
-            try {
-                commonNoticeFormatDTO = noticeAPIClientMap.get(categoryName).getNotices(categoryName);
-                apiNoticesMap.put(categoryName, commonNoticeFormatDTO);
-            } catch (InternalLogicException e) {
-                log.info("{}", e.getErrorCode().getMessage());
-                if(ErrorCode.KU_LOGIN_BAD_RESPONSE.equals(e.getErrorCode())) {
-                    Sentry.captureException(e);
-                }
+        log.info("갱신할 카테고리 = {}", categoryNames);
+        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = noticeFetcher.fetch(categoryNames); // 수신한 공지 데이터를 저장할 변수
+
+        // 수신에 실패한 카테고리는 변경률을 바꾸지 않고 다음 수신 시각만 정한다.
+        long now = System.currentTimeMillis();
+        for (CategoryName categoryName : categoryNames) {
+            if(!apiNoticesMap.containsKey(categoryName)) {
+                noticePollingPolicy.recordFailure(categoryName, now);
             }
         }
 
         // DB에 있는 공지 데이터 카테고리별로 꺼내와서
         // kuisNoticeResponseBody에 있는 데이터가 DB에는 없는 경우 -> DB에 공지 추가
         // DB에 있는 데이터가 kuisNoticeResponseBody에는 없는 경우 -> DB에 공지 삭제
-        List<Notice> willBeNotiNotices = compareAndUpdateDB(apiNoticesMap);
-        List<NoticeMessageDTO> willBeNotiNoticeDTOList = new ArrayList<>(willBeNotiNotices.size());
+        List<Notice> willBeNotiNotices = compareAndUpdateDB(apiNoticesMap, lease);
+
+        // 동기화가 끝난 카테고리의 공지 목록 캐시 교체
+        for (CategoryName categoryName : apiNoticesMap.keySet()) {
+            noticeCache.refresh(getCategoryMap().get(categoryName.getName()));
+        }
+        log.info("{}", noticeCache);
+
+        // 새 공지 알림은 동기화 트랜잭션에서 notice_outbox에 저장되었고, NoticeOutboxDispatcher가 FCM으로 전송한다.
+        log.info("새로운 공지 {}개의 알림을 전송 대기열에 추가했습니다.", willBeNotiNotices.size());
         for (Notice notice : willBeNotiNotices) {
-            if(CategoryName.LIBRARY.getName().equals(notice.getCategory().getName())) {
-                // TODO: notice entity 내용을 변경해서 사용하는게 좋은 방법인지는 생각을 해봐야함
-                // 혹시나 compareAndUpdateDB에서 영속성 컨텍스트에 남아있는 notice entity의 내용이 변경되어서 저장될까봐
-                // compareAndUpdateDB에서 saveAndFlush 메서드를 사용함.
-                notice.setPostedDate(dateConverter.convert(notice.getPostedDate()));
-            }
-            willBeNotiNoticeDTOList.add((NoticeMessageDTO) dtoConverter.convert(notice));
+            log.info("아이디 = {}, 날짜 = {}, 카테고리 = {}, 제목 = {}", notice.getArticleId(), notice.getPostedDate(), notice.getCategory().getName(), notice.getSubject());
         }
 
-        // FCM으로 새롭게 수신한 공지 데이터 전송
-        try {
-            firebaseService.sendMessage(willBeNotiNoticeDTOList);
-            log.info("FCM에 정상적으로 메세지를 전송했습니다.");
-            log.info("전송된 공지 목록은 다음과 같습니다.");
-            for (NoticeMessageDTO messageDTO : willBeNotiNoticeDTOList) {
-                log.info("아이디 = {}, 날짜 = {}, 카테고리 = {}, 제목 = {}", messageDTO.getArticleId(), messageDTO.getPostedDate(), messageDTO.getCategory(), messageDTO.getSubject());
+        log.info("========== 공지 업데이트 종료 ==========");
+    }
+
+    /**
+     * 다른 서버가 공지 동기화 잠금을 갖고 있다면, 그 서버가 동기화한 카테고리의 공지 목록 캐시와 검색 색인을 갱신한다.
+     */
+    private void refreshFromLeader() {
+
+        List<String> changedCategoryNames = new LinkedList<>();
+        for (NoticeWatermark watermark : noticeWatermarkRepository.findAll()) {
+            LocalDateTime observedSyncedDate = observedSyncedDates.put(watermark.getCategoryName(), watermark.getSyncedDate());
+            Category category = getCategoryMap().get(watermark.getCategoryName());
+            if(category != null && !watermark.getSyncedDate().equals(observedSyncedDate)) {
+                noticeCache.refresh(category);
+                changedCategoryNames.add(watermark.getCategoryName());
             }
-        } catch(FirebaseMessagingException e) {
-            log.error("새로운 공지의 FCM 전송에 실패했습니다.");
-            throw new InternalLogicException(ErrorCode.FB_FAIL_SEND, e);
-        } catch(Exception e) {
-            log.error("새로운 공지를 FCM에 보내는 중 알 수 없는 오류가 발생했습니다.");
-            throw new InternalLogicException(ErrorCode.UNKNOWN_ERROR, e);
         }
 
-        log.info("========== 공지 업데이트 종료 ==========");
+        if(changedCategoryNames.isEmpty()) {
+            return;
+        }
+
+        noticeSearchIndex.rebuild(noticeRepository.findAll());
+        applicationEventPublisher.publishEvent(new SearchDataUpdatedEvent("notice"));
+        log.info("[NoticeUpdater] 다른 서버가 동기화한 카테고리의 캐시와 검색 색인 갱신. 카테고리 = {}", changedCategoryNames);
     }
 
-    private List<Notice> compareAndUpdateDB(Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap) {
+    private Map<String, Category> getCategoryMap() {
 
         if(categoryMap == null) {
             categoryMap = categoryRepository.findAllMap();
         }
 
+        return categoryMap;
+    }
+
+    private List<Notice> compareAndUpdateDB(Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap, SchedulerLockManager.Lease lease) {
+
         List<Notice> willBeNotiNotices = new LinkedList<>();
+        boolean isChanged = false;
         for (CategoryName categoryName : apiNoticesMap.keySet()) {
-            String categoryFullName = categoryName.getName();
-            Category noticeCategory = categoryMap.get(categoryFullName);
-
-            // categoryName에 대응하는, ku api로 받아온 공지 데이터
-            List<CommonNoticeFormatDTO> commonNoticeFormatDTOList = apiNoticesMap.get(categoryName);
-
-            // categoryName에 대응하는, DB에 존재하는 공지 데이터
-            Map<String, Notice> dbNoticeMap = noticeRepository.findByCategoryMap(noticeCategory);
-
-            // commonNoticeFormatDTOList를 순회하면서
-            // 현재 공지가 dbNoticeList에 있으면 dbNoticeList에서 해당 공지 없애고(실제 DB에는 아무런 작업 안함)
-            // dbNoticeList에 없다면 공지 추가 (실제 DB에 추가)
-            // 작업이 끝난 후 dbNoticeList에 공지가 남아있다면, 해당 공지들은 DB에서 삭제 (실제 DB에 삭제)
-            List<Notice> newNotices = new LinkedList<>(); // DB에 추가할 공지 임시 저장
-            Iterator<CommonNoticeFormatDTO> noticeIterator = commonNoticeFormatDTOList.iterator();
-            while(noticeIterator.hasNext()) {
-                CommonNoticeFormatDTO apiNotice = noticeIterator.next();
-                Notice notice = dbNoticeMap.get(apiNotice.getArticleId());
-                if(notice == null) {
-                    newNotices.add(Notice.builder()
-                            .articleId(apiNotice.getArticleId())
-                            .postedDate(apiNotice.getPostedDate())
-                            .updatedDate(apiNotice.getUpdatedDate())
-                            .subject(apiNotice.getSubject())
-                            .category(noticeCategory)
-                            .build());
-                } else {
-                    noticeIterator.remove();
-                    dbNoticeMap.remove(apiNotice.getArticleId());
+            Category noticeCategory = getCategoryMap().get(categoryName.getName());
+
+            NoticeSyncResult syncResult;
+            try {
+                syncResult = noticeSynchronizer.synchronize(categoryName, noticeCategory, apiNoticesMap.get(categoryName), lease);
+            } catch(RuntimeException e) {
+                if(e instanceof InternalLogicException && ((InternalLogicException) e).getErrorCode() == ErrorCode.SCHEDULER_LOCK_LOST) {
+                    log.warn("[NoticeUpdater] 공지 동기화 잠금을 잃어 남은 카테고리의 동기화를 중단합니다.");
+                    break;
                 }
+
+                // 한 카테고리의 동기화 실패가 다른 카테고리의 동기화를 막지 않도록 하고, 실패한 카테고리는 수신 간격을 늘린다.
+                log.error("[NoticeUpdater] {} 공지 동기화 실패", categoryName.getName(), e);
+                Sentry.captureException(e);
+                noticePollingPolicy.recordFailure(categoryName, System.currentTimeMillis());
+                continue;
             }
 
-            // 업데이트로 인해 없어져야될 공지 삭제
-            Collection<Notice> removedNotices = dbNoticeMap.values();
-            noticeRepository.deleteAll(removedNotices);
+            // 검색 색인에 변경사항 반영
+            noticeSearchIndex.update(syncResult.getNewNotices(), syncResult.getRemovedNotices());
 
-            // 업데이트로 인해 새로 생성된 공지 삽입
-            noticeRepository.saveAllAndFlush(newNotices);
+            willBeNotiNotices.addAll(syncResult.getNewNotices());
+
+            boolean isCategoryChanged = !syncResult.getNewNotices().isEmpty() || !syncResult.getRemovedNotices().isEmpty();
+            noticePollingPolicy.recordPoll(categoryName, isCategoryChanged, System.currentTimeMillis());
+            isChanged |= isCategoryChanged;
+        }
 
-            willBeNotiNotices.addAll(newNotices);
+        // 웹소켓 검색 결과 캐시 무효화
+        if(isChanged) {
+            applicationEventPublisher.publishEvent(new SearchDataUpdatedEvent("notice"));
         }
 
         return willBeNotiNotices;
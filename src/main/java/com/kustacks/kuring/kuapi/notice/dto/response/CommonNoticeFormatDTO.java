@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +17,8 @@ public class CommonNoticeFormatDTO {
 
     private String postedDate;
 
+    private LocalDateTime postedAt;
+
     private String updatedDate;
 
     private String subject;
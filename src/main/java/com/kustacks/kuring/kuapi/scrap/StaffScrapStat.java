@@ -0,0 +1,55 @@
+package com.kustacks.kuring.kuapi.scrap;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    한 학과를 스크래핑하는 동안 수신한 페이지 수와, 그중 이전 수신 이후 바뀐 페이지 수
+
+    페이지 수는 시도마다 새로 센다. 바뀐 페이지가 있었는지와 수신한 페이지 키는 재시도해도 유지하므로,
+    실패한 시도에서 바뀐 페이지를 받았다면 마지막 시도에서 그 페이지가 바뀌지 않은 것으로 보여도 바뀐 것으로 본다.
+ */
+public class StaffScrapStat {
+
+    private final AtomicInteger pageCount = new AtomicInteger();
+    private final AtomicInteger modifiedPageCount = new AtomicInteger();
+
+    private final Set<String> pageKeys = ConcurrentHashMap.newKeySet();
+    private volatile boolean isModified;
+
+    public void beginAttempt() {
+        pageCount.set(0);
+        modifiedPageCount.set(0);
+    }
+
+    public void countPage(String pageKey, boolean isModified) {
+        pageKeys.add(pageKey);
+        pageCount.incrementAndGet();
+        if(isModified) {
+            modifiedPageCount.incrementAndGet();
+            this.isModified = true;
+        }
+    }
+
+    public int getPageCount() {
+        return pageCount.get();
+    }
+
+    public int getModifiedPageCount() {
+        return modifiedPageCount.get();
+    }
+
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * 모든 시도에서 수신한 페이지의 키. ConditionalFetchCache의 키와 같다.
+     */
+    public Set<String> getPageKeys() {
+        return Collections.unmodifiableSet(new HashSet<>(pageKeys));
+    }
+}
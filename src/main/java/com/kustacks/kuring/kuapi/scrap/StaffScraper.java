@@ -3,75 +3,117 @@ package com.kustacks.kuring.kuapi.scrap;
 import com.kustacks.kuring.controller.dto.StaffDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import com.kustacks.kuring.kuapi.api.staff.StaffAPIClient;
 import com.kustacks.kuring.kuapi.scrap.parser.HTMLParser;
 import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
 import com.kustacks.kuring.kuapi.staff.deptinfo.real_estate.RealEstateDept;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.nodes.Document;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+/*
+    교직원 페이지는 조건부로 요청하므로, 바뀌지 않은 페이지는 Document 없이 전달된다.
+    페이지별 파싱 결과는 ConditionalFetchCache에 응답 정보와 함께 보관해두고, 바뀌지 않은 페이지는 다시 파싱하지 않고 보관한 결과를 사용한다.
+    새로 파싱한 결과는 StaffUpdater가 DB에 반영한 뒤 commit해야 보관된다.
+ */
 @Slf4j
 @Component
 public class StaffScraper implements KuScraper<StaffDTO> {
 
     private final List<StaffAPIClient> staffAPIClients;
     private final List<HTMLParser> htmlParsers;
+    private final ConditionalFetchCache conditionalFetchCache;
 
-    public StaffScraper(List<HTMLParser> htmlParsers, List<StaffAPIClient> staffAPIClients) {
+    public StaffScraper(List<HTMLParser> htmlParsers, List<StaffAPIClient> staffAPIClients, ConditionalFetchCache conditionalFetchCache) {
 
         this.staffAPIClients = staffAPIClients;
         this.htmlParsers = htmlParsers;
+        this.conditionalFetchCache = conditionalFetchCache;
     }
 
-    @Retryable(value = {InternalLogicException.class}, backoff = @Backoff(delay = RETRY_PERIOD))
     public List<StaffDTO> scrap(DeptInfo deptInfo) throws InternalLogicException {
+        return scrap(deptInfo, new StaffScrapStat());
+    }
+
+    /**
+     * 학과의 교직원 목록을 스크래핑한다. 재시도는 호출하는 쪽(StaffScrapEngine)에서 학과별로 처리한다.
+     *
+     * @param stat 수신한 페이지와 바뀐 페이지 수를 기록한다.
+     */
+    public List<StaffDTO> scrap(DeptInfo deptInfo, StaffScrapStat stat) throws InternalLogicException {
+
+        StaffAPIClient staffAPIClient = staffAPIClients.stream()
+                .filter(client -> client.support(deptInfo))
+                .findFirst()
+                .orElseThrow(() -> new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP));
+
+        HTMLParser htmlParser = htmlParsers.stream()
+                .filter(parser -> parser.support(deptInfo))
+                .findFirst()
+                .orElseThrow(() -> new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_PARSE));
 
-        List<Document> documents = null;
-        List<StaffDTO> staffDTOList = new LinkedList<>();
+        // 페이지를 수신하는 대로 파싱해서 staffDTO로 변환하고, Document는 보관하지 않는다.
+        // 페이지가 여러 스레드에서 동시에 전달될 수 있으므로 동기화된 리스트를 사용한다.
+        List<StaffDTO> staffDTOList = Collections.synchronizedList(new LinkedList<>());
 
-        for (StaffAPIClient staffAPIClient : staffAPIClients) {
-            if(staffAPIClient.support(deptInfo)) {
-                log.info("{} HTML 요청", deptInfo.getDeptName());
-                documents = staffAPIClient.getHTML(deptInfo);
-                log.info("{} HTML 수신", deptInfo.getDeptName());
+        log.info("{} HTML 요청 및 파싱 시작", deptInfo.getDeptName());
+        staffAPIClient.getHTML(deptInfo, (pageKey, document) -> {
+            stat.countPage(pageKey, document != null);
+            for (String[] oneStaffInfo : parsePage(pageKey, document, htmlParser)) {
+                staffDTOList.add(toStaffDTO(oneStaffInfo, deptInfo));
             }
+        });
+        log.info("{} HTML 파싱 완료. 페이지 = {}, 바뀐 페이지 = {}", deptInfo.getDeptName(), stat.getPageCount(), stat.getModifiedPageCount());
+
+        if(staffDTOList.size() == 0) {
+            throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP);
         }
 
-        // 수신한 documents HTML 파싱
-        List<String[]> parseResult = new LinkedList<>();
-        for (HTMLParser htmlParser : htmlParsers) {
-            if(htmlParser.support(deptInfo)) {
-                log.info("{} HTML 파싱 시작", deptInfo.getDeptName());
-                for (Document document : documents) {
-                    parseResult.addAll(htmlParser.parse(document));
-                }
-                log.info("{} HTML 파싱 완료", deptInfo.getDeptName());
+        return new ArrayList<>(staffDTOList);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String[]> parsePage(String pageKey, Document document, HTMLParser htmlParser) {
+
+        // 바뀌지 않은 페이지
+        if(document == null) {
+            ConditionalFetchCache.Entry entry = conditionalFetchCache.get(pageKey);
+            List<String[]> records = entry == null ? null : (List<String[]>) entry.getPayload();
+            if(records == null) {
+                // 파싱 결과가 없으므로 다음 시도에서 페이지 전체를 다시 받는다.
+                conditionalFetchCache.invalidate(pageKey);
+                throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_PARSE);
             }
+            return records;
         }
 
-        // 파싱 결과를 staffDTO로 변환
-        for (String[] oneStaffInfo : parseResult) {
-            staffDTOList.add(StaffDTO.builder()
-                    .name(oneStaffInfo[0])
-                    .major(oneStaffInfo[1])
-                    .lab(oneStaffInfo[2])
-                    .phone(oneStaffInfo[3])
-                    .email(oneStaffInfo[4])
-                    .deptName(deptInfo.getDeptName())
-                    .collegeName(deptInfo.getCollegeName()).build());
+        List<String[]> records = new ArrayList<>();
+        try {
+            htmlParser.parse(document, records::add);
+        } catch(RuntimeException e) {
+            // 파싱하지 못한 페이지는 다음 시도에서 바뀌지 않은 것으로 처리되지 않도록 한다.
+            conditionalFetchCache.invalidate(pageKey);
+            throw e;
         }
 
-        if(staffDTOList.size() == 0) {
-            throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP);
-        }
+        conditionalFetchCache.stagePayload(pageKey, records);
+        return records;
+    }
 
-        return staffDTOList;
+    private StaffDTO toStaffDTO(String[] oneStaffInfo, DeptInfo deptInfo) {
+        return StaffDTO.builder()
+                .name(oneStaffInfo[0])
+                .major(oneStaffInfo[1])
+                .lab(oneStaffInfo[2])
+                .phone(oneStaffInfo[3])
+                .email(oneStaffInfo[4])
+                .deptName(deptInfo.getDeptName())
+                .collegeName(deptInfo.getCollegeName()).build();
     }
 }
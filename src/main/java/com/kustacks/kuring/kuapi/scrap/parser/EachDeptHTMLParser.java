@@ -13,8 +13,7 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @NoArgsConstructor
@@ -29,9 +28,7 @@ public class EachDeptHTMLParser implements HTMLParser {
     }
 
     @Override
-    public List<String[]> parse(Document document) throws InternalLogicException {
-
-        List<String[]> result = new LinkedList<>();
+    public void parse(Document document, Consumer<String[]> sink) throws InternalLogicException {
 
         try {
             Element table = document.select(".photo_intro").get(0);
@@ -59,12 +56,10 @@ public class EachDeptHTMLParser implements HTMLParser {
                 oneStaffInfo[3] = infos.get(4).childNodeSize() < 2 ? "" : String.valueOf(infos.get(4).childNode(1));
                 oneStaffInfo[4] = infos.get(5).getElementsByTag("a").get(0).text();
 
-                result.add(oneStaffInfo);
+                sink.accept(oneStaffInfo);
             }
         } catch(NullPointerException | IndexOutOfBoundsException e) {
             throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_PARSE, e);
         }
-
-        return result;
     }
 }
@@ -4,11 +4,22 @@ import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
 import org.jsoup.nodes.Document;
 
+import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface HTMLParser {
 
     boolean support(DeptInfo deptInfo);
 
-    List<String[]> parse(Document document) throws InternalLogicException;
+    /**
+     * 교직원 한 명의 정보(이름, 전공, 연구실, 전화번호, 이메일)를 파싱하는 대로 sink에 전달한다.
+     */
+    void parse(Document document, Consumer<String[]> sink) throws InternalLogicException;
+
+    default List<String[]> parse(Document document) throws InternalLogicException {
+        List<String[]> result = new LinkedList<>();
+        parse(document, result::add);
+        return result;
+    }
 }
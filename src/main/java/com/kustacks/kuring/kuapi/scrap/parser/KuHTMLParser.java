@@ -11,8 +11,7 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.function.Consumer;
 
 @NoArgsConstructor
 @Component
@@ -24,14 +23,12 @@ public class KuHTMLParser implements HTMLParser {
     }
 
     @Override
-    public List<String[]> parse(Document document) throws InternalLogicException {
+    public void parse(Document document, Consumer<String[]> sink) throws InternalLogicException {
 
         // 테이블 추출
         Elements tables = document.getElementsByTag("table");
 
         // 이름, 전공, 연구실, 전화번호, 이메일 순 추출
-        List<String[]> result = new LinkedList<>();
-
         try {
             for (Element table : tables) {
 
@@ -77,7 +74,7 @@ public class KuHTMLParser implements HTMLParser {
                     }
 
                     if(isEmailNotEmpty) {
-                        result.add(oneStaffInfo);
+                        sink.accept(oneStaffInfo);
                     }
 //                else {
 //                    log.info("스크래핑 스킵 -> {} {} 교수", deptName, oneStaffInfo[0]);
@@ -89,7 +86,5 @@ public class KuHTMLParser implements HTMLParser {
         } catch(NullPointerException | IndexOutOfBoundsException e) {
             throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_PARSE, e);
         }
-
-        return result;
     }
 }
@@ -10,8 +10,7 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.function.Consumer;
 
 @NoArgsConstructor
 @Component
@@ -23,9 +22,7 @@ public class RealEstateHTMLParser implements HTMLParser {
     }
 
     @Override
-    public List<String[]> parse(Document document) throws InternalLogicException {
-
-        List<String[]> result = new LinkedList<>();
+    public void parse(Document document, Consumer<String[]> sink) throws InternalLogicException {
 
         try {
             Element table = document.select(".sub0201_list").get(0).getElementsByTag("ul").get(0);
@@ -44,12 +41,10 @@ public class RealEstateHTMLParser implements HTMLParser {
                 oneStaffInfo[3] = String.valueOf(textMore.childNode(6)).split(":")[1].replaceFirst("\\s", "").trim();
                 oneStaffInfo[4] = textMore.getElementsByTag("a").get(0).text();
 
-                result.add(oneStaffInfo);
+                sink.accept(oneStaffInfo);
             }
         } catch(NullPointerException | IndexOutOfBoundsException e) {
             throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_PARSE, e);
         }
-
-        return result;
     }
 }
@@ -0,0 +1,76 @@
+package com.kustacks.kuring.kuapi.staff;
+
+import com.kustacks.kuring.controller.dto.StaffDTO;
+import com.kustacks.kuring.error.BusinessException;
+import com.kustacks.kuring.kuapi.scrap.StaffScrapStat;
+import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/*
+    한 학과의 스크래핑 결과
+    성공했다면 staffDTOList를, 실패했다면 failure(마지막 시도의 예외)를 갖는다.
+    isModified는 어느 시도에서든 이전 수신 이후 바뀐 페이지가 있었는지를 나타낸다.
+    pageKeys는 수신한 페이지의 ConditionalFetchCache 키로, DB 반영 후 commit 또는 discard할 때 사용한다.
+ */
+@Getter
+public class DeptScrapReport {
+
+    private final DeptInfo deptInfo;
+    private final List<StaffDTO> staffDTOList;
+    private final Exception failure;
+    private final int attemptCount;
+    private final int pageCount;
+    private final int modifiedPageCount;
+    private final boolean isModified;
+    private final Set<String> pageKeys;
+    private final long durationMillis;
+
+    private DeptScrapReport(DeptInfo deptInfo, List<StaffDTO> staffDTOList, Exception failure, int attemptCount, StaffScrapStat stat, long durationMillis) {
+        this.deptInfo = deptInfo;
+        this.staffDTOList = staffDTOList;
+        this.failure = failure;
+        this.attemptCount = attemptCount;
+        this.pageCount = stat.getPageCount();
+        this.modifiedPageCount = stat.getModifiedPageCount();
+        this.isModified = stat.isModified();
+        this.pageKeys = stat.getPageKeys();
+        this.durationMillis = durationMillis;
+    }
+
+    public static DeptScrapReport success(DeptInfo deptInfo, List<StaffDTO> staffDTOList, int attemptCount, StaffScrapStat stat, long durationMillis) {
+        return new DeptScrapReport(deptInfo, staffDTOList, null, attemptCount, stat, durationMillis);
+    }
+
+    public static DeptScrapReport failure(DeptInfo deptInfo, Exception failure, int attemptCount, StaffScrapStat stat, long durationMillis) {
+        return new DeptScrapReport(deptInfo, Collections.emptyList(), failure, attemptCount, stat, durationMillis);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public String getDeptName() {
+        return deptInfo.getDeptName();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + getDeptName() + "] " + (isSuccess() ? "성공" : "실패")
+                + ", 교직원 = " + staffDTOList.size()
+                + ", 페이지 = " + pageCount
+                + ", 바뀐 페이지 = " + modifiedPageCount
+                + ", 시도 = " + attemptCount
+                + ", 소요 시간 = " + durationMillis + "ms"
+                + (isSuccess() ? "" : ", 실패 사유 = " + failureReason());
+    }
+
+    private String failureReason() {
+        return failure instanceof BusinessException
+                ? ((BusinessException) failure).getErrorCode().getMessage()
+                : failure.toString();
+    }
+}
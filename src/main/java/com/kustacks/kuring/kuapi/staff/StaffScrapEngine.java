@@ -0,0 +1,130 @@
+package com.kustacks.kuring.kuapi.staff;
+
+import com.kustacks.kuring.controller.dto.StaffDTO;
+import com.kustacks.kuring.kuapi.scrap.StaffScrapStat;
+import com.kustacks.kuring.kuapi.scrap.StaffScraper;
+import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/*
+    학과별 교직원 스크래핑을 staffScrapScheduler 스레드 풀에서 동시에 실행한다.
+
+    스크래핑에 실패한 학과는 staff.scrap-retry-delay 후에 다시 시도하도록 예약만 하고 스레드를 반납하므로,
+    한 학과의 재시도가 다른 학과의 스크래핑을 막지 않는다. 학과당 최대 staff.scrap-max-attempts번 시도한다.
+    호스트별 동시 요청 수와 요청 간격은 HostRequestThrottle이 제한한다.
+ */
+@Slf4j
+@Component
+public class StaffScrapEngine {
+
+    private final StaffScraper staffScraper;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final long timeout;
+
+    public StaffScrapEngine(StaffScraper staffScraper,
+                            ThreadPoolTaskScheduler staffScrapScheduler,
+                            @Value("${staff.scrap-max-attempts}") int maxAttempts,
+                            @Value("${staff.scrap-retry-delay}") long retryDelay,
+                            @Value("${staff.scrap-timeout}") long timeout) {
+
+        this.staffScraper = staffScraper;
+        this.scheduler = staffScrapScheduler;
+
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 모든 학과를 스크래핑하고, deptInfos와 같은 순서로 학과별 결과를 반환한다.
+     * staff.scrap-timeout 안에 끝나지 않은 학과는 실패로 처리한다.
+     */
+    public List<DeptScrapReport> scrapAll(List<DeptInfo> deptInfos) {
+
+        List<DeptScrapTask> tasks = new ArrayList<>(deptInfos.size());
+        for (DeptInfo deptInfo : deptInfos) {
+            DeptScrapTask task = new DeptScrapTask(deptInfo);
+            tasks.add(task);
+            scheduler.execute(task);
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        List<DeptScrapReport> reports = new ArrayList<>(tasks.size());
+        for (DeptScrapTask task : tasks) {
+            reports.add(task.await(deadline));
+        }
+
+        return reports;
+    }
+
+    private class DeptScrapTask implements Runnable {
+
+        private final DeptInfo deptInfo;
+        private final CompletableFuture<DeptScrapReport> future;
+        private final long startedAt;
+
+        private volatile int attemptCount;
+        private final StaffScrapStat stat;
+
+        DeptScrapTask(DeptInfo deptInfo) {
+            this.deptInfo = deptInfo;
+            this.future = new CompletableFuture<>();
+            this.startedAt = System.currentTimeMillis();
+            this.stat = new StaffScrapStat();
+        }
+
+        @Override
+        public void run() {
+
+            // 시간 초과로 이미 실패 처리된 경우
+            if(future.isDone()) {
+                return;
+            }
+
+            ++attemptCount;
+            stat.beginAttempt();
+            try {
+                List<StaffDTO> staffDTOList = staffScraper.scrap(deptInfo, stat);
+                future.complete(DeptScrapReport.success(deptInfo, staffDTOList, attemptCount, stat, elapsed()));
+            } catch(RuntimeException e) {
+                if(attemptCount < maxAttempts) {
+                    log.warn("[StaffScrapEngine] {} 스크래핑 실패 ({}번째 시도). {}ms 후 재시도", deptInfo.getDeptName(), attemptCount, retryDelay);
+                    scheduler.schedule(this, Instant.now().plusMillis(retryDelay));
+                } else {
+                    future.complete(DeptScrapReport.failure(deptInfo, e, attemptCount, stat, elapsed()));
+                }
+            }
+        }
+
+        DeptScrapReport await(long deadline) {
+            try {
+                return future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            } catch(TimeoutException e) {
+                future.complete(DeptScrapReport.failure(deptInfo, e, attemptCount, stat, elapsed()));
+                return future.join();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.complete(DeptScrapReport.failure(deptInfo, e, attemptCount, stat, elapsed()));
+                return future.join();
+            } catch(ExecutionException e) {
+                // future는 예외로 완료되지 않는다.
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private long elapsed() {
+            return System.currentTimeMillis() - startedAt;
+        }
+    }
+}
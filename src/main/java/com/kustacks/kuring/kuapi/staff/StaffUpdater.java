@@ -3,17 +3,16 @@ package com.kustacks.kuring.kuapi.staff;
 import com.kustacks.kuring.controller.dto.StaffDTO;
 import com.kustacks.kuring.domain.staff.Staff;
 import com.kustacks.kuring.domain.staff.StaffRepository;
-import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.event.SearchDataUpdatedEvent;
 import com.kustacks.kuring.kuapi.Updater;
-import com.kustacks.kuring.kuapi.scrap.StaffScraper;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
 import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,24 +20,27 @@ import java.util.stream.Collectors;
 public class StaffUpdater implements Updater {
 
     private final StaffRepository staffRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    private final StaffScraper staffScraper;
+    private final StaffScrapEngine staffScrapEngine;
+    private final ConditionalFetchCache conditionalFetchCache;
     private final List<DeptInfo> deptInfos;
 
-    private final int STAFF_UPDATE_RETRY_PERIOD = 1000 * 60; // 1분후에 실패한 크론잡 재시도
-
     public StaffUpdater(StaffRepository staffRepository,
-                        StaffScraper staffScraper,
-                        List<DeptInfo> deptInfos) {
+                        StaffScrapEngine staffScrapEngine,
+                        ConditionalFetchCache conditionalFetchCache,
+                        List<DeptInfo> deptInfos,
+                        ApplicationEventPublisher applicationEventPublisher) {
 
         this.staffRepository = staffRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
 
-        this.staffScraper = staffScraper;
+        this.staffScrapEngine = staffScrapEngine;
+        this.conditionalFetchCache = conditionalFetchCache;
         this.deptInfos = deptInfos;
     }
 
     @Override
-    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.DAYS)
     public void update() {
 
         log.info("========== 교직원 업데이트 시작 ==========");
@@ -48,30 +50,56 @@ public class StaffUpdater implements Updater {
         /*
            각 학과별 url로 스크래핑, 교수진 데이터 수집
 
-           스크래핑 실패한 학과들을 재시도하기 위해 호출된 경우
-           values에 StaffDeptInfo 전체 값이 아닌, 매개변수로 들어온 값을 전달한다.
+           학과들은 StaffScrapEngine에서 동시에 스크래핑되며, 실패한 학과는 다른 학과를 막지 않고 따로 재시도된다.
+           끝내 실패한 학과의 교직원 정보는 DB에서 건드리지 않는다.
+
+           페이지는 조건부로 요청하므로, 성공한 학과의 페이지가 모두 바뀌지 않았다면 DB와 비교하지 않는다.
+           하나라도 바뀌었다면 여러 학과에 속한 교직원을 올바르게 합치기 위해 성공한 학과 전체를 비교한다.
+           새로 받은 페이지의 응답 정보는 DB 반영이 끝난 뒤에 commit하므로, 반영에 실패하면 다음 갱신에서 다시 바뀐 것으로 처리된다.
          */
 
+        List<DeptScrapReport> reports = staffScrapEngine.scrapAll(deptInfos);
+
         Map<String, StaffDTO> kuStaffDTOMap = new HashMap<>();
         List<String> successDeptNames = new LinkedList<>();
-        for (DeptInfo deptInfo : deptInfos) {
-            try {
-                scrapDeptAndConvertToMap(kuStaffDTOMap, deptInfo);
-                successDeptNames.add(deptInfo.getDeptName());
-            } catch(InternalLogicException e) {
-                log.error("[ScraperException] 스크래핑 문제 발생. 문제가 발생한 학과 = {}", deptInfo.getDeptName());
-                Sentry.captureException(e);
+        List<String> successPageKeys = new LinkedList<>();
+        List<String> pageKeys = new LinkedList<>();
+        boolean isModified = false;
+        for (DeptScrapReport report : reports) {
+            log.info("{}", report);
+            pageKeys.addAll(report.getPageKeys());
+            if(report.isSuccess()) {
+                mergeIntoMap(kuStaffDTOMap, report.getStaffDTOList());
+                successDeptNames.add(report.getDeptName());
+                successPageKeys.addAll(report.getPageKeys());
+                isModified |= report.isModified();
+            } else {
+                log.error("[ScraperException] 스크래핑 문제 발생. 문제가 발생한 학과 = {}", report.getDeptName());
+                Sentry.captureException(report.getFailure());
             }
         }
+        log.info("스크래핑 성공 학과 = {}개, 실패 학과 = {}개", successDeptNames.size(), reports.size() - successDeptNames.size());
+
+        try {
+            if(isModified) {
+                compareAndUpdateDB(kuStaffDTOMap, successDeptNames);
 
-        compareAndUpdateDB(kuStaffDTOMap, successDeptNames);
+                // 웹소켓 검색 결과 캐시 무효화
+                applicationEventPublisher.publishEvent(new SearchDataUpdatedEvent("staff"));
+            } else {
+                log.info("교직원 페이지 변경사항 없음");
+            }
+
+            conditionalFetchCache.commit(successPageKeys);
+        } finally {
+            // 실패한 학과의 페이지와, DB 반영에 실패한 경우 모든 페이지의 응답 정보를 버린다.
+            conditionalFetchCache.discard(pageKeys);
+        }
 
         log.info("========== 교직원 업데이트 종료 ==========");
     }
 
-    private void scrapDeptAndConvertToMap(Map<String, StaffDTO> kuStaffDTOMap, DeptInfo deptInfo) throws InternalLogicException {
-
-        List<StaffDTO> scrapedStaffDTOList = staffScraper.scrap(deptInfo);
+    private void mergeIntoMap(Map<String, StaffDTO> kuStaffDTOMap, List<StaffDTO> scrapedStaffDTOList) {
 
         for (StaffDTO staffDTO : scrapedStaffDTOList) {
             StaffDTO mapStaffDTO = kuStaffDTOMap.get(staffDTO.getEmail());
@@ -1,55 +1,126 @@
 package com.kustacks.kuring.kuapi.user;
 
 import com.google.firebase.messaging.FirebaseMessagingException;
-import com.kustacks.kuring.domain.user.User;
+import com.kustacks.kuring.domain.job_checkpoint.JobCheckpoint;
+import com.kustacks.kuring.domain.job_checkpoint.JobCheckpointRepository;
 import com.kustacks.kuring.domain.user.UserRepository;
-import com.kustacks.kuring.domain.user_category.UserCategoryRepository;
+import com.kustacks.kuring.domain.user.UserToken;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.Updater;
 import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.service.TokenValidityCache;
+import com.kustacks.kuring.service.UserService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/*
+    유효하지 않은 FCM 토큰을 가진 사용자를 삭제한다.
+
+    사용자를 id 순으로 user.verify-page-size명씩 읽어 토큰을 dry run으로 한꺼번에 검증하고,
+    페이지마다 처리한 마지막 id를 job_checkpoint에 저장한다. 도중에 서버가 재시작되면 저장된 id 다음부터 이어서 검증한다.
+    실행 주기는 UpdaterJobRunner가 job_ledger의 실행 기록을 보고 정한다.
+    검증 요청에 실패하면 예외를 던져 실패로 기록되게 하므로, job.failure-retry-delay 뒤에 저장된 id 다음부터 다시 검증한다.
+ */
 @Slf4j
 @Component
 public class UserUpdater implements Updater {
 
+    private final String JOB_NAME = "user-token-verify";
+
     private final FirebaseService firebaseService;
     private final UserRepository userRepository;
-    private final UserCategoryRepository userCategoryRepository;
+    private final UserService userService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TokenValidityCache tokenValidityCache;
+
+    private final int pageSize;
 
 //    private final int STAFF_UPDATE_RETRY_PERIOD = 1000 * 10;
 
     public UserUpdater(
             FirebaseService firebaseService,
             UserRepository userRepository,
-            UserCategoryRepository userCategoryRepository) {
+            UserService userService,
+            JobCheckpointRepository jobCheckpointRepository,
+            TokenValidityCache tokenValidityCache,
+            @Value("${user.verify-page-size}") int pageSize) {
 
         this.firebaseService = firebaseService;
         this.userRepository = userRepository;
-        this.userCategoryRepository = userCategoryRepository;
+        this.userService = userService;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.tokenValidityCache = tokenValidityCache;
+        this.pageSize = pageSize;
     }
 
-    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.DAYS)
     public void update() {
 
         log.info("========== 토큰 유효성 필터링 시작 ==========");
 
-        List<User> users = userRepository.findAll();
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME).orElse(null);
+        if(checkpoint == null) {
+            LocalDateTime now = LocalDateTime.now();
+            checkpoint = JobCheckpoint.builder()
+                    .jobName(JOB_NAME)
+                    .lastProcessedId(0)
+                    .startedDate(now)
+                    .updatedDate(now)
+                    .build();
+        } else {
+            log.info("id = {} 이후의 사용자부터 이어서 검증합니다.", checkpoint.getLastProcessedId());
+        }
 
-        for (User user : users) {
-            String token = user.getToken();
+        int verifiedCount = 0;
+        int deletedCount = 0;
+        List<UserToken> users;
+        do {
+            users = userRepository.findTokensAfter(checkpoint.getLastProcessedId(), PageRequest.of(0, pageSize));
+            if(users.isEmpty()) {
+                break;
+            }
+
+            Set<String> invalidTokens;
             try {
-                firebaseService.verifyToken(token);
+                invalidTokens = firebaseService.findInvalidTokens(users.stream().map(UserToken::getToken).collect(Collectors.toList()));
             } catch(FirebaseMessagingException e) {
-                userCategoryRepository.deleteAll(user.getUserCategories());
-                userRepository.deleteByToken(token);
-                log.info("삭제한 토큰 = {}", token);
+                // 진행 위치는 저장되어 있으므로, 실패로 기록되어 job.failure-retry-delay 뒤 이 페이지부터 다시 검증한다.
+                log.error("토큰 검증 요청에 실패하여 필터링을 중단합니다. 마지막으로 처리한 id = {}", checkpoint.getLastProcessedId(), e);
+                throw new InternalLogicException(ErrorCode.FB_FAIL_VERIFY_TOKEN, e);
             }
-        }
+
+            List<UserToken> invalidUsers = users.stream()
+                    .filter(user -> invalidTokens.contains(user.getToken()))
+                    .collect(Collectors.toList());
+            userService.deleteUsers(invalidUsers);
+
+            // API 요청에서 사용하는 토큰 검증 캐시에도 반영
+            List<String> validTokens = users.stream()
+                    .map(UserToken::getToken)
+                    .filter(token -> !invalidTokens.contains(token))
+                    .collect(Collectors.toList());
+            tokenValidityCache.refresh(validTokens, invalidTokens);
+            for (UserToken invalidUser : invalidUsers) {
+                log.info("삭제한 토큰 = {}", invalidUser.getToken());
+            }
+
+            verifiedCount += users.size();
+            deletedCount += invalidUsers.size();
+
+            checkpoint.setLastProcessedId(users.get(users.size() - 1).getId());
+            checkpoint.setUpdatedDate(LocalDateTime.now());
+            checkpoint = jobCheckpointRepository.save(checkpoint);
+        } while(users.size() == pageSize);
+
+        jobCheckpointRepository.delete(checkpoint);
+        log.info("검증한 토큰 = {}개, 삭제한 토큰 = {}개", verifiedCount, deletedCount);
 
         log.info("========== 토큰 유효성 필터링 종료 ==========");
     }
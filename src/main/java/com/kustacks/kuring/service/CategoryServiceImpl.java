@@ -17,6 +17,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,7 +28,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final UserCategoryRepository userCategoryRepository;
-    private final FirebaseService firebaseService;
+    private final TopicSubscriptionBatcher topicSubscriptionBatcher;
 
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -37,7 +39,7 @@ public class CategoryServiceImpl implements CategoryService {
             UserRepository userRepository,
             UserCategoryRepository userCategoryRepository,
             ApplicationEventPublisher applicationEventPublisher,
-            FirebaseService firebaseService) {
+            TopicSubscriptionBatcher topicSubscriptionBatcher) {
 
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
@@ -45,7 +47,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         this.applicationEventPublisher = applicationEventPublisher;
 
-        this.firebaseService = firebaseService;
+        this.topicSubscriptionBatcher = topicSubscriptionBatcher;
 
         categoryMap = categoryRepository.findAllMap();
     }
@@ -114,6 +116,10 @@ public class CategoryServiceImpl implements CategoryService {
     }
     
     // TODO: FirebaseMessagingException 외에 다른 예외 발생할 수 있는지 확인
+    /**
+     * 구독/구독 해제 요청을 TopicSubscriptionBatcher로 한꺼번에 보내고, 모두 성공하면 user_category를 일괄 반영한다.
+     * 일부라도 실패하면 예외를 던지고, 성공한 요청은 RollbackEvent로 되돌린다.
+     */
     @Transactional
     public void updateUserCategory(String token, Map<String, List<UserCategory>> userCategories) throws FirebaseMessagingException {
 
@@ -124,20 +130,36 @@ public class CategoryServiceImpl implements CategoryService {
         applicationEventPublisher.publishEvent(new RollbackEvent(token, transactionHistory));
 
         List<UserCategory> newUserCategories = userCategories.get("new");
+        List<UserCategory> removeUserCategories = userCategories.get("remove");
+
+        Map<UserCategory, CompletableFuture<Void>> subscribeFutures = new LinkedHashMap<>();
         for (UserCategory newUserCategory : newUserCategories) {
-            firebaseService.subscribe(newUserCategory.getUser().getToken(), newUserCategory.getCategory().getName());
-            userCategoryRepository.save(newUserCategory);
-            transactionHistory.get("new").add(newUserCategory);
-            log.info("구독 요청 = {}", newUserCategory.getCategory().getName());
+            subscribeFutures.put(newUserCategory, topicSubscriptionBatcher.subscribe(newUserCategory.getUser().getToken(), newUserCategory.getCategory().getName()));
         }
 
-        List<UserCategory> removeUserCategories = userCategories.get("remove");
+        Map<UserCategory, CompletableFuture<Void>> unsubscribeFutures = new LinkedHashMap<>();
         for (UserCategory removeUserCategory : removeUserCategories) {
-            firebaseService.unsubscribe(removeUserCategory.getUser().getToken(), removeUserCategory.getCategory().getName());
-            userCategoryRepository.delete(removeUserCategory);
-            transactionHistory.get("remove").add(removeUserCategory);
-            log.info("구독 취소 = {}", removeUserCategory.getCategory().getName());
+            unsubscribeFutures.put(removeUserCategory, topicSubscriptionBatcher.unsubscribe(removeUserCategory.getUser().getToken(), removeUserCategory.getCategory().getName()));
+        }
+
+        Throwable failure = awaitAll(subscribeFutures, transactionHistory.get("new"), "구독 요청");
+        Throwable unsubscribeFailure = awaitAll(unsubscribeFutures, transactionHistory.get("remove"), "구독 취소");
+        if(failure == null) {
+            failure = unsubscribeFailure;
+        }
+
+        if(failure instanceof FirebaseMessagingException) {
+            throw (FirebaseMessagingException) failure;
+        } else if(failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if(failure instanceof Error) {
+            throw (Error) failure;
+        } else if(failure != null) {
+            throw new InternalLogicException(ErrorCode.FB_FAIL_SUBSCRIBE, (Exception) failure);
         }
+
+        userCategoryRepository.insertAllInBatch(newUserCategories);
+        userCategoryRepository.deleteAllInBatch(removeUserCategories);
     }
 
     @Override
@@ -155,6 +177,25 @@ public class CategoryServiceImpl implements CategoryService {
         return new ArrayList<>(set);
     }
 
+    // 모든 요청이 끝나기를 기다린 뒤, 성공한 요청은 history에 기록하고 첫 번째 실패 원인을 반환한다.
+    private Throwable awaitAll(Map<UserCategory, CompletableFuture<Void>> futures, List<UserCategory> history, String action) {
+
+        Throwable failure = null;
+        for (Map.Entry<UserCategory, CompletableFuture<Void>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().join();
+                history.add(entry.getKey());
+                log.info("{} = {}", action, entry.getKey().getCategory().getName());
+            } catch(CompletionException e) {
+                if(failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        return failure;
+    }
+
     private Map<String, UserCategory> listToMap(List<UserCategory> userCategories) {
 
         Map<String, UserCategory> map = new HashMap<>();
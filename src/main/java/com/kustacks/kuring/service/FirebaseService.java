@@ -7,6 +7,8 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
 import com.google.firebase.messaging.TopicManagementResponse;
 import com.kustacks.kuring.controller.dto.AdminMessageDTO;
 import com.kustacks.kuring.controller.dto.NoticeDTO;
@@ -14,15 +16,21 @@ import com.kustacks.kuring.controller.dto.NoticeMessageDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.CategoryName;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 public class FirebaseService {
 
@@ -36,6 +44,7 @@ public class FirebaseService {
     private String deployEnv;
 
     private final String DEV_SUFFIX = ".dev";
+    private final int SEND_ALL_LIMIT = 500; // sendAll 한 번에 보낼 수 있는 최대 메세지 수
 
     private final FirebaseMessaging firebaseMessaging;
     private final ObjectMapper objectMapper;
@@ -63,16 +72,38 @@ public class FirebaseService {
         firebaseMessaging.send(message);
     }
 
-    public void subscribe(String token, String topic) throws FirebaseMessagingException, InternalLogicException {
+    /**
+     * 토큰을 최대 500개씩 묶어 dry run으로 전송해보고, 더 이상 유효하지 않은 토큰을 반환한다.
+     * 일시적인 오류로 실패한 토큰은 유효하지 않다고 판단하지 않는다.
+     *
+     * @throws FirebaseMessagingException 요청 자체가 실패한 경우
+     */
+    public Set<String> findInvalidTokens(List<String> tokens) throws FirebaseMessagingException {
+
+        Set<String> invalidTokens = new HashSet<>();
+        for (int from = 0; from < tokens.size(); from += SEND_ALL_LIMIT) {
+            List<String> chunk = tokens.subList(from, Math.min(from + SEND_ALL_LIMIT, tokens.size()));
+
+            List<Message> messages = new ArrayList<>(chunk.size());
+            for (String token : chunk) {
+                messages.add(Message.builder().setToken(token).build());
+            }
+
+            List<SendResponse> responses = firebaseMessaging.sendAll(messages, true).getResponses();
+            for (int i = 0; i < responses.size(); ++i) {
+                SendResponse response = responses.get(i);
+                if(!response.isSuccessful() && isInvalidToken(response.getException())) {
+                    invalidTokens.add(chunk.get(i));
+                }
+            }
+        }
 
-        ArrayList<String> tokens = new ArrayList<>(1);
-        tokens.add(token);
+        return invalidTokens;
+    }
 
-        if(deployEnv.equals("dev")) {
-            topic = topic + DEV_SUFFIX;
-        }
+    public void subscribe(String token, String topic) throws FirebaseMessagingException, InternalLogicException {
 
-        TopicManagementResponse response = firebaseMessaging.subscribeToTopic(tokens, topic);
+        TopicManagementResponse response = subscribe(Collections.singletonList(token), topic);
 
         if(response.getFailureCount() > 0) {
             throw new InternalLogicException(ErrorCode.FB_FAIL_SUBSCRIBE);
@@ -81,18 +112,37 @@ public class FirebaseService {
 
     public void unsubscribe(String token, String topic) throws FirebaseMessagingException, InternalLogicException {
 
-        ArrayList<String> tokens = new ArrayList<>(1);
-        tokens.add(token);
+        TopicManagementResponse response = unsubscribe(Collections.singletonList(token), topic);
+
+        if(response.getFailureCount() > 0) {
+            throw new InternalLogicException(ErrorCode.FB_FAIL_UNSUBSCRIBE);
+        }
+    }
+
+    /**
+     * 여러 토큰을 한 번의 요청으로 topic에 구독시킨다. 토큰은 최대 1000개까지 가능하다.
+     * 토큰별 실패 여부는 반환값의 getErrors()로 확인한다.
+     */
+    public TopicManagementResponse subscribe(List<String> tokens, String topic) throws FirebaseMessagingException {
 
         if(deployEnv.equals("dev")) {
             topic = topic + DEV_SUFFIX;
         }
 
-        TopicManagementResponse response = firebaseMessaging.unsubscribeFromTopic(tokens, topic);
+        return firebaseMessaging.subscribeToTopic(tokens, topic);
+    }
 
-        if(response.getFailureCount() > 0) {
-            throw new InternalLogicException(ErrorCode.FB_FAIL_UNSUBSCRIBE);
+    /**
+     * 여러 토큰을 한 번의 요청으로 topic에서 구독 해제한다. 토큰은 최대 1000개까지 가능하다.
+     * 토큰별 실패 여부는 반환값의 getErrors()로 확인한다.
+     */
+    public TopicManagementResponse unsubscribe(List<String> tokens, String topic) throws FirebaseMessagingException {
+
+        if(deployEnv.equals("dev")) {
+            topic = topic + DEV_SUFFIX;
         }
+
+        return firebaseMessaging.unsubscribeFromTopic(tokens, topic);
     }
 
 
@@ -111,6 +161,48 @@ public class FirebaseService {
      */
 
     public void sendMessage(NoticeMessageDTO messageDTO) throws FirebaseMessagingException {
+        firebaseMessaging.send(buildTopicMessage(messageDTO));
+    }
+
+    /**
+     * 공지 메세지를 최대 500개씩 묶어 한 번의 요청(sendAll)으로 전송한다.
+     * 한 메세지의 실패가 다른 메세지의 전송을 막지 않는다.
+     * 여기서는 재전송하지 않으며, 실패한 메세지는 NoticeOutboxDispatcher가 다시 전송한다.
+     *
+     * @return 전송에 실패한 메세지와 그 예외. 묶음 요청 자체가 실패했다면 묶음의 모든 메세지가 그 예외를 갖는다.
+     */
+    public Map<NoticeMessageDTO, FirebaseMessagingException> sendMessages(List<NoticeMessageDTO> messageDTOList) {
+
+        Map<NoticeMessageDTO, FirebaseMessagingException> failedMessages = new IdentityHashMap<>();
+        for (int from = 0; from < messageDTOList.size(); from += SEND_ALL_LIMIT) {
+            List<NoticeMessageDTO> chunk = messageDTOList.subList(from, Math.min(from + SEND_ALL_LIMIT, messageDTOList.size()));
+
+            List<Message> messages = new ArrayList<>(chunk.size());
+            for (NoticeMessageDTO messageDTO : chunk) {
+                messages.add(buildTopicMessage(messageDTO));
+            }
+
+            try {
+                List<SendResponse> responses = firebaseMessaging.sendAll(messages).getResponses();
+                for (int i = 0; i < responses.size(); ++i) {
+                    SendResponse response = responses.get(i);
+                    if(!response.isSuccessful()) {
+                        log.warn("[FirebaseService] 공지 메세지 전송 실패. 아이디 = {}", chunk.get(i).getArticleId(), response.getException());
+                        failedMessages.put(chunk.get(i), response.getException());
+                    }
+                }
+            } catch(FirebaseMessagingException e) {
+                log.warn("[FirebaseService] 공지 메세지 묶음 전송 실패", e);
+                for (NoticeMessageDTO messageDTO : chunk) {
+                    failedMessages.put(messageDTO, e);
+                }
+            }
+        }
+
+        return failedMessages;
+    }
+
+    private Message buildTopicMessage(NoticeMessageDTO messageDTO) {
 
         Map<String, String> noticeMap = objectMapper.convertValue(messageDTO, Map.class);
 
@@ -119,18 +211,37 @@ public class FirebaseService {
             topic.append(DEV_SUFFIX);
         }
 
-        Message newMessage = Message.builder()
+        return Message.builder()
                 .putAllData(noticeMap)
                 .setTopic(topic.toString())
                 .build();
+    }
 
-        firebaseMessaging.send(newMessage);
+    // 오류 코드가 없거나 서버 측 일시적인 오류인 경우에만 재시도한다.
+    public boolean isRetryable(FirebaseMessagingException e) {
+
+        if(e == null) {
+            return false;
+        }
+
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        return errorCode == null
+                || errorCode == MessagingErrorCode.UNAVAILABLE
+                || errorCode == MessagingErrorCode.INTERNAL
+                || errorCode == MessagingErrorCode.QUOTA_EXCEEDED;
     }
 
-    public void sendMessage(List<NoticeMessageDTO> messageDTOList) throws FirebaseMessagingException {
-        for (NoticeMessageDTO messageDTO : messageDTOList) {
-            sendMessage(messageDTO);
+    // 토큰이 만료되었거나 잘못된 토큰이라서 실패한 경우
+    public boolean isInvalidToken(FirebaseMessagingException e) {
+
+        if(e == null) {
+            return false;
         }
+
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        return errorCode == MessagingErrorCode.UNREGISTERED
+                || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+                || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
     }
 
     public void sendMessage(String token, NoticeMessageDTO messageDTO) throws FirebaseMessagingException {
@@ -0,0 +1,120 @@
+package com.kustacks.kuring.service;
+
+import com.kustacks.kuring.controller.dto.NoticeDTO;
+import com.kustacks.kuring.domain.OffsetBasedPageRequest;
+import com.kustacks.kuring.domain.category.Category;
+import com.kustacks.kuring.domain.notice.Notice;
+import com.kustacks.kuring.domain.notice.NoticeRepository;
+import com.kustacks.kuring.util.converter.DTOConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    카테고리별 최신 공지 notice.cache-size개를 NoticeDTO로 변환해 메모리에 보관한다.
+    공지는 NoticeUpdater가 동기화할 때만 바뀌므로, 동기화가 끝나면 새로 조회한 목록으로 통째로 교체(refresh)하고
+    그 사이의 공지 목록 요청은 DB를 거치지 않고 응답한다.
+ */
+@Slf4j
+@Component
+public class NoticeCache {
+
+    @Value("${notice.cache-size}")
+    private int cacheSize;
+
+    private final NoticeRepository noticeRepository;
+    private final DTOConverter dtoConverter;
+
+    private final Map<String, CachedNotices> cachedNoticesMap;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+
+    public NoticeCache(NoticeRepository noticeRepository, DTOConverter noticeEntityToNoticeDTOConverter) {
+        this.noticeRepository = noticeRepository;
+        this.dtoConverter = noticeEntityToNoticeDTOConverter;
+
+        this.cachedNoticesMap = new ConcurrentHashMap<>();
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+    }
+
+    /**
+     * 캐시로 응답할 수 있는 범위라면 해당 구간의 공지 목록을, 아니라면 null을 반환한다.
+     */
+    public List<NoticeDTO> get(String categoryName, int offset, int max) {
+
+        CachedNotices cachedNotices = cachedNoticesMap.get(categoryName);
+        if(cachedNotices == null || !cachedNotices.covers(offset, max)) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return cachedNotices.slice(offset, max);
+    }
+
+    /**
+     * DB에서 카테고리의 최신 공지를 다시 읽어 캐시를 교체한다.
+     */
+    public void refresh(Category category) {
+
+        OffsetBasedPageRequest pageRequest = new OffsetBasedPageRequest(0, cacheSize, Sort.by(Sort.Direction.DESC, "postedAt", "id"));
+        List<Notice> notices = noticeRepository.findByCategory(category, pageRequest);
+
+        List<NoticeDTO> noticeDTOList = new ArrayList<>(notices.size());
+        for (Notice notice : notices) {
+            noticeDTOList.add((NoticeDTO) dtoConverter.convert(notice));
+        }
+
+        // 요청 스레드는 교체 전후 중 하나의 목록만 보게 된다.
+        cachedNoticesMap.put(category.getName(), new CachedNotices(noticeDTOList, noticeDTOList.size() < cacheSize, LocalDateTime.now()));
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public LocalDateTime getRefreshedDate(String categoryName) {
+        CachedNotices cachedNotices = cachedNoticesMap.get(categoryName);
+        return cachedNotices == null ? null : cachedNotices.refreshedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "[NoticeCache] 적중 = " + hitCount.get() + ", 실패 = " + missCount.get();
+    }
+
+    private static class CachedNotices {
+
+        private final List<NoticeDTO> notices;
+        // 카테고리의 전체 공지 수가 cache-size보다 적어, 캐시가 곧 전체 공지인 경우
+        private final boolean isComplete;
+        private final LocalDateTime refreshedDate;
+
+        CachedNotices(List<NoticeDTO> notices, boolean isComplete, LocalDateTime refreshedDate) {
+            this.notices = Collections.unmodifiableList(notices);
+            this.isComplete = isComplete;
+            this.refreshedDate = refreshedDate;
+        }
+
+        boolean covers(int offset, int max) {
+            return isComplete || offset + max <= notices.size();
+        }
+
+        List<NoticeDTO> slice(int offset, int max) {
+            int from = Math.min(offset, notices.size());
+            int to = Math.min(offset + max, notices.size());
+            return notices.subList(from, to);
+        }
+    }
+}
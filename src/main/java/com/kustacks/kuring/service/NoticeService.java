@@ -1,5 +1,6 @@
 package com.kustacks.kuring.service;
 
+import com.kustacks.kuring.controller.dto.NoticeCursor;
 import com.kustacks.kuring.controller.dto.NoticeDTO;
 import com.kustacks.kuring.domain.notice.Notice;
 
@@ -8,5 +9,6 @@ import java.util.List;
 public interface NoticeService {
 
     List<NoticeDTO> getNotices(String type, int offset, int max);
+    List<NoticeDTO> getNoticesAfter(String type, NoticeCursor cursor, int max);
     List<Notice> handleSearchRequest(String keywords);
 }
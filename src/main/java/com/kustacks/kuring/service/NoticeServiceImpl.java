@@ -1,5 +1,6 @@
 package com.kustacks.kuring.service;
 
+import com.kustacks.kuring.controller.dto.NoticeCursor;
 import com.kustacks.kuring.controller.dto.NoticeDTO;
 import com.kustacks.kuring.domain.OffsetBasedPageRequest;
 import com.kustacks.kuring.domain.category.Category;
@@ -7,7 +8,7 @@ import com.kustacks.kuring.domain.category.CategoryRepository;
 import com.kustacks.kuring.domain.notice.Notice;
 import com.kustacks.kuring.domain.notice.NoticeRepository;
 import com.kustacks.kuring.kuapi.CategoryName;
-import com.kustacks.kuring.service.utils.ObjectComparator;
+import com.kustacks.kuring.service.search.NoticeSearchIndex;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -20,19 +21,30 @@ public class NoticeServiceImpl implements NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final CategoryRepository categoryRepository;
+    private final NoticeCache noticeCache;
+    private final NoticeSearchIndex noticeSearchIndex;
     private final Map<String, Category> categoryMap;
     private final CategoryName[] categoryNames;
 
-    public NoticeServiceImpl(NoticeRepository noticeRepository, CategoryRepository categoryRepository) {
+    public NoticeServiceImpl(NoticeRepository noticeRepository, CategoryRepository categoryRepository,
+                             NoticeCache noticeCache, NoticeSearchIndex noticeSearchIndex) {
         this.noticeRepository = noticeRepository;
         this.categoryRepository = categoryRepository;
+        this.noticeCache = noticeCache;
+        this.noticeSearchIndex = noticeSearchIndex;
 
         categoryMap = categoryRepository.findAllMap();
         categoryNames = CategoryName.values();
     }
 
     public List<NoticeDTO> getNotices(String type, int offset, int max) {
-        OffsetBasedPageRequest pageRequest = new OffsetBasedPageRequest(offset, max, Sort.by(Sort.Direction.DESC, "postedDate"));
+
+        List<NoticeDTO> cachedNotices = noticeCache.get(type, offset, max);
+        if(cachedNotices != null) {
+            return cachedNotices;
+        }
+
+        OffsetBasedPageRequest pageRequest = new OffsetBasedPageRequest(offset, max, Sort.by(Sort.Direction.DESC, "postedAt", "id"));
 //        PageRequest pageRequest = PageRequest.of(offset / max, max);
 
         Category category = categoryMap.get(type);
@@ -45,6 +57,20 @@ public class NoticeServiceImpl implements NoticeService {
         return noticeEntityToDTO(notices);
     }
 
+    public List<NoticeDTO> getNoticesAfter(String type, NoticeCursor cursor, int max) {
+
+        Category category = categoryMap.get(type);
+        if(category == null) {
+            return null;
+        }
+
+        // 정렬은 쿼리에 명시되어 있으므로 개수만 제한한다.
+        OffsetBasedPageRequest pageRequest = new OffsetBasedPageRequest(0, max, Sort.unsorted());
+        List<Notice> notices = noticeRepository.findByCategoryAfter(category, cursor.getPostedAt(), cursor.getId(), pageRequest);
+
+        return noticeEntityToDTO(notices);
+    }
+
     public List<Notice> handleSearchRequest(String keywords) {
 
         keywords = keywords.trim();
@@ -60,42 +86,18 @@ public class NoticeServiceImpl implements NoticeService {
             }
         }
 
-        return getNoticesBySubjectOrCategory(splitedKeywords);
+        return noticeSearchIndex.search(splitedKeywords);
     }
 
-    private List<Notice> getNoticesBySubjectOrCategory(String[] keywords) {
-
-        List<Notice> notices = noticeRepository.findBySubjectContainingOrCategoryNameContaining(keywords[0], keywords[0]);
-        Iterator<Notice> iterator = notices.iterator();
-
-        for(int i=1; i<keywords.length; ++i) {
-            while(iterator.hasNext()) {
-                Notice notice = iterator.next();
-                String curKeyword = keywords[i];
-
-                if(notice.getSubject().contains(curKeyword) || notice.getCategory().getName().contains(curKeyword)) {
-
-                } else {
-                    iterator.remove();
-                }
-            }
-        }
-        
-        // 날짜 내림차순 정렬
-        notices.sort(ObjectComparator.NoticeDateComparator);
-
-        return notices;
-    }
-
-
-
     // TODO: noticeDTO 클래스에 위치하는게 맞는듯?
     private List<NoticeDTO> noticeEntityToDTO(List<Notice> notices) {
         List<NoticeDTO> noticeDTOList = new ArrayList<>(notices.size());
         for (Notice notice : notices) {
             noticeDTOList.add(NoticeDTO.builder()
+                    .id(notice.getId())
                     .articleId(notice.getArticleId())
                     .postedDate(notice.getPostedDate())
+                    .postedAt(notice.getPostedAt())
                     .subject(notice.getSubject())
                     .categoryName(notice.getCategory().getName())
                     .build());
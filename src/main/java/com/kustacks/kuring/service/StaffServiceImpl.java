@@ -28,9 +28,9 @@ public class StaffServiceImpl implements StaffService {
     private List<Staff> getStaffsByNameOrDeptOrCollege(String[] keywords) {
 
         List<Staff> staffs = staffRepository.findByNameContainingOrDeptContainingOrCollegeContaining(keywords[0], keywords[0], keywords[0]);
-        Iterator<Staff> iterator = staffs.iterator();
 
         for(int i=1; i<keywords.length; ++i) {
+            Iterator<Staff> iterator = staffs.iterator();
             while(iterator.hasNext()) {
                 Staff staff = iterator.next();
                 String curKeyword = keywords[i];
@@ -0,0 +1,83 @@
+package com.kustacks.kuring.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.kustacks.kuring.util.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/*
+    최근에 검증한 FCM 토큰의 검증 결과를 보관한다.
+
+    유효한 토큰은 token.valid-ttl 동안, 유효하지 않다고 판명된 토큰은 token.invalid-ttl 동안 보관하여
+    같은 기기의 반복 요청에는 FCM에 검증 요청을 보내지 않는다.
+    UserUpdater가 dry run으로 찾은 유효하지 않은 토큰도 함께 보관한다.
+    일시적인 오류로 검증에 실패한 경우는 보관하지 않는다.
+ */
+@Component
+public class TokenValidityCache {
+
+    private final FirebaseService firebaseService;
+
+    private final ExpiringLruCache<String, Boolean> validTokens;
+    private final ExpiringLruCache<String, Boolean> invalidTokens;
+
+    public TokenValidityCache(FirebaseService firebaseService,
+                              @Value("${token.cache-size}") int cacheSize,
+                              @Value("${token.valid-ttl}") long validTtl,
+                              @Value("${token.invalid-ttl}") long invalidTtl) {
+
+        this.firebaseService = firebaseService;
+
+        this.validTokens = new ExpiringLruCache<>(cacheSize, validTtl);
+        this.invalidTokens = new ExpiringLruCache<>(cacheSize, invalidTtl);
+    }
+
+    /**
+     * 토큰이 유효한지 반환한다.
+     *
+     * @throws FirebaseMessagingException 일시적인 오류 등으로 유효한지 판단하지 못한 경우
+     */
+    public boolean isValid(String token) throws FirebaseMessagingException {
+
+        if(validTokens.get(token) != null) {
+            return true;
+        }
+
+        if(invalidTokens.get(token) != null) {
+            return false;
+        }
+
+        try {
+            firebaseService.verifyToken(token);
+        } catch(FirebaseMessagingException e) {
+            if(firebaseService.isInvalidToken(e)) {
+                invalidTokens.put(token, Boolean.TRUE);
+                return false;
+            }
+            throw e;
+        }
+
+        validTokens.put(token, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * UserUpdater의 검증 결과를 반영한다.
+     * 유효하지 않은 토큰은 유효하지 않은 토큰으로 보관하고, 이미 캐시에 있는 유효한 토큰은 보관 기간을 연장한다.
+     */
+    public void refresh(Collection<String> verifiedTokens, Collection<String> invalidatedTokens) {
+
+        for (String token : invalidatedTokens) {
+            validTokens.remove(token);
+            invalidTokens.put(token, Boolean.TRUE);
+        }
+
+        for (String token : verifiedTokens) {
+            if(validTokens.get(token) != null) {
+                validTokens.put(token, Boolean.TRUE);
+            }
+        }
+    }
+}
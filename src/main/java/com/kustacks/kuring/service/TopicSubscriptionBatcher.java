@@ -0,0 +1,158 @@
+package com.kustacks.kuring.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.TopicManagementResponse;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/*
+    토픽 구독/구독 해제 요청을 fcm.subscription-batch-window 동안 모았다가
+    같은 토픽, 같은 작업의 요청끼리 묶어 한 번의 subscribeToTopic/unsubscribeFromTopic 호출로 보낸다.
+    여러 사용자가 동시에 구독을 변경해도 토픽당 한 번의 요청으로 처리되며, 토픽별 요청은 병렬로 전송된다.
+
+    요청마다 CompletableFuture를 반환하며, 해당 토큰의 처리가 실패하면 예외로 완료된다.
+ */
+@Slf4j
+@Component
+public class TopicSubscriptionBatcher {
+
+    private final int TOPIC_MANAGEMENT_LIMIT = 1000; // 한 번의 요청에 담을 수 있는 최대 토큰 수
+
+    private final FirebaseService firebaseService;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final long batchWindow;
+
+    private Map<BatchKey, List<PendingRequest>> pendingRequests;
+
+    public TopicSubscriptionBatcher(FirebaseService firebaseService,
+                                    ThreadPoolTaskScheduler topicSubscriptionScheduler,
+                                    @Value("${fcm.subscription-batch-window}") long batchWindow) {
+
+        this.firebaseService = firebaseService;
+        this.scheduler = topicSubscriptionScheduler;
+        this.batchWindow = batchWindow;
+
+        this.pendingRequests = new HashMap<>();
+    }
+
+    public CompletableFuture<Void> subscribe(String token, String topic) {
+        return enqueue(new BatchKey(topic, true), token);
+    }
+
+    public CompletableFuture<Void> unsubscribe(String token, String topic) {
+        return enqueue(new BatchKey(topic, false), token);
+    }
+
+    private CompletableFuture<Void> enqueue(BatchKey key, String token) {
+
+        PendingRequest request = new PendingRequest(token);
+
+        synchronized(this) {
+            // 모으는 중인 요청이 없다면, 이 요청이 새 묶음의 첫 요청이므로 전송을 예약한다.
+            if(pendingRequests.isEmpty()) {
+                scheduler.schedule(this::flush, Instant.now().plusMillis(batchWindow));
+            }
+            pendingRequests.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+        }
+
+        return request.future;
+    }
+
+    private void flush() {
+
+        Map<BatchKey, List<PendingRequest>> batches;
+        synchronized(this) {
+            batches = pendingRequests;
+            pendingRequests = new HashMap<>();
+        }
+
+        for (Map.Entry<BatchKey, List<PendingRequest>> entry : batches.entrySet()) {
+            List<PendingRequest> requests = entry.getValue();
+            for (int from = 0; from < requests.size(); from += TOPIC_MANAGEMENT_LIMIT) {
+                List<PendingRequest> chunk = requests.subList(from, Math.min(from + TOPIC_MANAGEMENT_LIMIT, requests.size()));
+                scheduler.execute(() -> send(entry.getKey(), chunk));
+            }
+        }
+    }
+
+    private void send(BatchKey key, List<PendingRequest> requests) {
+
+        List<String> tokens = new ArrayList<>(requests.size());
+        for (PendingRequest request : requests) {
+            tokens.add(request.token);
+        }
+
+        try {
+            TopicManagementResponse response = key.isSubscribe
+                    ? firebaseService.subscribe(tokens, key.topic)
+                    : firebaseService.unsubscribe(tokens, key.topic);
+
+            Set<Integer> failedIndexes = new HashSet<>();
+            for (TopicManagementResponse.Error error : response.getErrors()) {
+                failedIndexes.add(error.getIndex());
+                log.warn("[TopicSubscriptionBatcher] {} {} 실패. 사유 = {}", key.topic, key.isSubscribe ? "구독" : "구독 해제", error.getReason());
+            }
+
+            for (int i = 0; i < requests.size(); ++i) {
+                if(failedIndexes.contains(i)) {
+                    requests.get(i).future.completeExceptionally(new InternalLogicException(key.isSubscribe ? ErrorCode.FB_FAIL_SUBSCRIBE : ErrorCode.FB_FAIL_UNSUBSCRIBE));
+                } else {
+                    requests.get(i).future.complete(null);
+                }
+            }
+
+            log.info("[TopicSubscriptionBatcher] {} {} 요청 {}건 중 {}건 실패", key.topic, key.isSubscribe ? "구독" : "구독 해제", requests.size(), failedIndexes.size());
+        } catch(FirebaseMessagingException | RuntimeException e) {
+            for (PendingRequest request : requests) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class BatchKey {
+
+        private final String topic;
+        private final boolean isSubscribe;
+
+        BatchKey(String topic, boolean isSubscribe) {
+            this.topic = topic;
+            this.isSubscribe = isSubscribe;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey batchKey = (BatchKey) o;
+            return isSubscribe == batchKey.isSubscribe && topic.equals(batchKey.topic);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topic, isSubscribe);
+        }
+    }
+
+    private static class PendingRequest {
+
+        private final String token;
+        private final CompletableFuture<Void> future;
+
+        PendingRequest(String token) {
+            this.token = token;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.kustacks.kuring.service;
 
 import com.kustacks.kuring.domain.user.User;
+import com.kustacks.kuring.domain.user.UserToken;
+
+import java.util.Collection;
 
 public interface UserService {
     User getUserByToken(String token);
     User insertUserToken(String token);
+    void deleteUsers(Collection<UserToken> users);
 }
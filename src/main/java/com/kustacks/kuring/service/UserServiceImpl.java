@@ -1,16 +1,28 @@
 package com.kustacks.kuring.service;
 
+import com.kustacks.kuring.domain.feedback.FeedbackRepository;
 import com.kustacks.kuring.domain.user.User;
 import com.kustacks.kuring.domain.user.UserRepository;
+import com.kustacks.kuring.domain.user.UserToken;
+import com.kustacks.kuring.domain.user_category.UserCategoryRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserCategoryRepository userCategoryRepository;
+    private final FeedbackRepository feedbackRepository;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserCategoryRepository userCategoryRepository, FeedbackRepository feedbackRepository) {
         this.userRepository = userRepository;
+        this.userCategoryRepository = userCategoryRepository;
+        this.feedbackRepository = feedbackRepository;
     }
 
     @Override
@@ -24,4 +36,23 @@ public class UserServiceImpl implements UserService {
                 .token(token)
                 .build());
     }
+
+    /**
+     * 사용자와 사용자의 구독 카테고리, 피드백을 쿼리 세 번으로 한꺼번에 삭제한다.
+     */
+    @Override
+    @Transactional
+    public void deleteUsers(Collection<UserToken> users) {
+
+        if(users.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = users.stream().map(UserToken::getId).collect(Collectors.toList());
+        List<String> tokens = users.stream().map(UserToken::getToken).collect(Collectors.toList());
+
+        userCategoryRepository.deleteAllByUserTokenIn(tokens);
+        feedbackRepository.deleteAllByUserIdIn(ids);
+        userRepository.deleteAllByIdIn(ids);
+    }
 }
@@ -0,0 +1,266 @@
+package com.kustacks.kuring.service.search;
+
+import com.kustacks.kuring.domain.notice.Notice;
+import com.kustacks.kuring.domain.notice.NoticeRepository;
+import com.kustacks.kuring.service.utils.ObjectComparator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    공지 제목 검색용 역색인.
+
+    한글 제목은 띄어쓰기가 일정하지 않아 단어 단위로 나누지 않고, 제목의 모든 1글자와 2글자 조각(n-gram)을 색인한다.
+    키워드를 포함하는 공지는 키워드의 2글자 조각을 모두 포함하므로, 조각별 공지 집합의 교집합을 후보로 삼고
+    후보만 실제로 키워드를 포함하는지 확인한다. 따라서 검색 비용은 전체 공지 수가 아니라 후보 수에 비례한다.
+
+    처음 사용될 때 DB의 전체 공지로 색인을 만들고, 이후에는 NoticeUpdater가 동기화 결과로 추가/삭제한다.
+ */
+@Slf4j
+@Component
+public class NoticeSearchIndex {
+
+    private final NoticeRepository noticeRepository;
+
+    private final ReadWriteLock lock;
+
+    // key: 카테고리명/articleId
+    private final Map<String, Notice> documents;
+    private final Map<String, Set<String>> subjectPostings;
+    private final Map<String, Set<String>> categoryPostings;
+
+    private volatile boolean isBuilt;
+
+    public NoticeSearchIndex(NoticeRepository noticeRepository) {
+        this.noticeRepository = noticeRepository;
+
+        this.lock = new ReentrantReadWriteLock();
+
+        this.documents = new HashMap<>();
+        this.subjectPostings = new HashMap<>();
+        this.categoryPostings = new HashMap<>();
+    }
+
+    /**
+     * 모든 키워드를 포함하는(AND) 공지를 게시일 내림차순으로 반환한다.
+     * 키워드는 공지 제목에 포함되거나, 공지 카테고리명에 포함되면 일치하는 것으로 본다.
+     */
+    public List<Notice> search(String[] keywords) {
+
+        buildIfNecessary();
+
+        lock.readLock().lock();
+        try {
+            Set<String> result = null;
+            for (String keyword : keywords) {
+                if(keyword.isEmpty()) {
+                    continue;
+                }
+
+                Set<String> matched = findBySubject(keyword);
+                matched.addAll(findByCategoryName(keyword));
+
+                if(result == null) {
+                    result = matched;
+                } else {
+                    result.retainAll(matched);
+                }
+
+                if(result.isEmpty()) {
+                    break;
+                }
+            }
+
+            Collection<String> keys = result == null ? documents.keySet() : result;
+            List<Notice> notices = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                notices.add(documents.get(key));
+            }
+
+            // 날짜 내림차순 정렬
+            notices.sort(ObjectComparator.NoticeDateComparator);
+
+            return notices;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 동기화 결과를 색인에 반영한다. 아직 색인이 만들어지지 않았다면 DB의 전체 공지로 새로 만든다.
+     */
+    public void update(Collection<Notice> newNotices, Collection<Notice> removedNotices) {
+
+        if(!isBuilt) {
+            buildIfNecessary();
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Notice notice : removedNotices) {
+                remove(notice);
+            }
+            for (Notice notice : newNotices) {
+                add(notice);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 공지 목록으로 색인을 새로 만든다.
+     */
+    public void rebuild(Collection<Notice> notices) {
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            subjectPostings.clear();
+            categoryPostings.clear();
+
+            for (Notice notice : notices) {
+                add(notice);
+            }
+
+            isBuilt = true;
+            log.info("[NoticeSearchIndex] 공지 {}개 색인 완료", documents.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void buildIfNecessary() {
+
+        if(isBuilt) {
+            return;
+        }
+
+        synchronized(this) {
+            if(!isBuilt) {
+                rebuild(noticeRepository.findAll());
+            }
+        }
+    }
+
+    private Set<String> findBySubject(String keyword) {
+
+        Set<String> candidates = null;
+        for (String gram : queryGrams(keyword)) {
+            Set<String> posting = subjectPostings.get(gram);
+            if(posting == null) {
+                return new HashSet<>();
+            }
+
+            if(candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+        }
+
+        // 조각이 모두 포함되어도 순서가 다를 수 있으므로 실제 포함 여부를 확인한다.
+        candidates.removeIf(key -> !documents.get(key).getSubject().contains(keyword));
+
+        return candidates;
+    }
+
+    private Set<String> findByCategoryName(String keyword) {
+
+        Set<String> matched = new HashSet<>();
+        for (Map.Entry<String, Set<String>> entry : categoryPostings.entrySet()) {
+            if(entry.getKey().contains(keyword)) {
+                matched.addAll(entry.getValue());
+            }
+        }
+
+        return matched;
+    }
+
+    private void add(Notice notice) {
+
+        String key = keyOf(notice);
+        remove(documents.get(key));
+
+        // 색인 밖에서 공지 엔티티의 내용이 바뀌어도 영향을 받지 않도록, 색인에는 복사본을 저장한다.
+        Notice document = Notice.builder()
+                .articleId(notice.getArticleId())
+                .postedDate(notice.getPostedDate())
+                .postedAt(notice.getPostedAt())
+                .updatedDate(notice.getUpdatedDate())
+                .subject(notice.getSubject())
+                .category(notice.getCategory())
+                .build();
+
+        documents.put(key, document);
+        for (String gram : indexGrams(document.getSubject())) {
+            subjectPostings.computeIfAbsent(gram, k -> new HashSet<>()).add(key);
+        }
+        categoryPostings.computeIfAbsent(document.getCategory().getName(), k -> new HashSet<>()).add(key);
+    }
+
+    private void remove(Notice notice) {
+
+        if(notice == null) {
+            return;
+        }
+
+        String key = keyOf(notice);
+        Notice document = documents.remove(key);
+        if(document == null) {
+            return;
+        }
+
+        for (String gram : indexGrams(document.getSubject())) {
+            Set<String> posting = subjectPostings.get(gram);
+            if(posting != null) {
+                posting.remove(key);
+                if(posting.isEmpty()) {
+                    subjectPostings.remove(gram);
+                }
+            }
+        }
+
+        Set<String> posting = categoryPostings.get(document.getCategory().getName());
+        if(posting != null) {
+            posting.remove(key);
+        }
+    }
+
+    private String keyOf(Notice notice) {
+        return notice.getCategory().getName() + "/" + notice.getArticleId();
+    }
+
+    // 제목의 모든 1글자, 2글자 조각
+    private Set<String> indexGrams(String subject) {
+
+        Set<String> grams = new HashSet<>();
+        for (int i=0; i<subject.length(); ++i) {
+            grams.add(subject.substring(i, i + 1));
+            if(i + 2 <= subject.length()) {
+                grams.add(subject.substring(i, i + 2));
+            }
+        }
+
+        return grams;
+    }
+
+    // 키워드가 한 글자면 그 글자, 아니라면 키워드의 모든 2글자 조각
+    private Set<String> queryGrams(String keyword) {
+
+        if(keyword.length() == 1) {
+            return Collections.singleton(keyword);
+        }
+
+        Set<String> grams = new HashSet<>();
+        for (int i=0; i+2<=keyword.length(); ++i) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+
+        return grams;
+    }
+}
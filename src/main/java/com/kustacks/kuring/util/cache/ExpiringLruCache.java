@@ -0,0 +1,69 @@
+package com.kustacks.kuring.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    최대 maxSize개의 값을 ttlMillis 동안 보관하는 LRU 캐시.
+    가득 차면 가장 오래 사용되지 않은 값부터 버린다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public ExpiringLruCache(int maxSize, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 값이 없거나 만료되었다면 null을 반환한다.
+     */
+    public synchronized V get(K key) {
+
+        Entry<V> entry = entries.get(key);
+        if(entry == null) {
+            return null;
+        }
+
+        if(entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -7,6 +7,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class KuisNoticeDTOToCommonFormatDTOConverter implements DTOConverter {
 
+    private final PostedDateToLocalDateTimeConverter postedDateConverter;
+
+    public KuisNoticeDTOToCommonFormatDTOConverter(PostedDateToLocalDateTimeConverter postedDateConverter) {
+        this.postedDateConverter = postedDateConverter;
+    }
+
     @Override
     public Object convert(Object target) {
 
@@ -14,6 +20,7 @@ public class KuisNoticeDTOToCommonFormatDTOConverter implements DTOConverter {
         return CommonNoticeFormatDTO.builder()
                 .articleId(kuisNoticeDTO.getArticleId())
                 .postedDate(kuisNoticeDTO.getPostedDate())
+                .postedAt(postedDateConverter.convert(kuisNoticeDTO.getPostedDate()))
                 .updatedDate(null)
                 .subject(kuisNoticeDTO.getSubject())
                 .build();
@@ -7,6 +7,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class LibraryNoticeDTOToCommonFormatDTOConverter implements DTOConverter {
 
+    private final PostedDateToLocalDateTimeConverter postedDateConverter;
+
+    public LibraryNoticeDTOToCommonFormatDTOConverter(PostedDateToLocalDateTimeConverter postedDateConverter) {
+        this.postedDateConverter = postedDateConverter;
+    }
+
     @Override
     public Object convert(Object target) {
 
@@ -14,6 +20,7 @@ public class LibraryNoticeDTOToCommonFormatDTOConverter implements DTOConverter
         return CommonNoticeFormatDTO.builder()
                 .articleId(libraryNoticeDTO.getId())
                 .postedDate(libraryNoticeDTO.getDateCreated())
+                .postedAt(postedDateConverter.convert(libraryNoticeDTO.getDateCreated()))
                 .updatedDate(libraryNoticeDTO.getLastUpdated())
                 .subject(libraryNoticeDTO.getTitle())
                 .build();
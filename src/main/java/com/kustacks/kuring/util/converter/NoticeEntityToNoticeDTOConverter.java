@@ -12,8 +12,10 @@ public class NoticeEntityToNoticeDTOConverter implements DTOConverter {
 
         Notice notice = (Notice) target;
         return NoticeDTO.builder()
+                .id(notice.getId())
                 .articleId(notice.getArticleId())
                 .postedDate(notice.getPostedDate())
+                .postedAt(notice.getPostedAt())
                 .subject(notice.getSubject())
                 .categoryName(notice.getCategory().getName())
                 .build();
@@ -0,0 +1,39 @@
+package com.kustacks.kuring.util.converter;
+
+import com.kustacks.kuring.controller.dto.NoticeMessageDTO;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutbox;
+import com.kustacks.kuring.kuapi.CategoryName;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NoticeOutboxToNoticeMessageDTOConverter implements DTOConverter {
+
+    @Value("${notice.normal-base-url}")
+    private String normalBaseUrl;
+
+    @Value("${notice.library-base-url}")
+    private String libraryBaseUrl;
+
+    private final DateConverter dateConverter;
+
+    public NoticeOutboxToNoticeMessageDTOConverter(DateConverter ymdhmsToYmdConverter) {
+        this.dateConverter = ymdhmsToYmdConverter;
+    }
+
+    @Override
+    public Object convert(Object target) {
+
+        NoticeOutbox outbox = (NoticeOutbox) target;
+        boolean isLibrary = CategoryName.LIBRARY.getName().equals(outbox.getCategoryName());
+
+        // 도서관 공지의 게시일은 yyyy-MM-dd HH:mm:ss 형식이므로, 다른 공지와 같은 yyyyMMdd 형식으로 바꿔서 보낸다.
+        return NoticeMessageDTO.builder()
+                .articleId(outbox.getArticleId())
+                .postedDate(isLibrary ? dateConverter.convert(outbox.getPostedDate()) : outbox.getPostedDate())
+                .subject(outbox.getSubject())
+                .category(outbox.getCategoryName())
+                .baseUrl(isLibrary ? libraryBaseUrl : normalBaseUrl)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.kustacks.kuring.util.converter;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/*
+    게시일 문자열을 LocalDateTime으로 변환한다.
+    KUIS 공지는 yyyyMMdd, 도서관 공지는 yyyy-MM-dd HH:mm:ss 형식이다.
+    형식이 맞지 않으면 null을 반환한다.
+ */
+@Component
+public class PostedDateToLocalDateTimeConverter implements Converter<LocalDateTime, String> {
+
+    private static final DateTimeFormatter YMD_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter YMDHMS_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Override
+    public LocalDateTime convert(String postedDate) {
+
+        if(postedDate == null) {
+            return null;
+        }
+
+        try {
+            if(postedDate.length() == 8) {
+                return LocalDate.parse(postedDate, YMD_FORMATTER).atStartOfDay();
+            }
+            return LocalDateTime.parse(postedDate, YMDHMS_FORMATTER);
+        } catch(DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -20,4 +20,4 @@ INSERT INTO category (name)
 SELECT 'normal' FROM DUAL WHERE NOT EXISTS(SELECT * FROM category WHERE name = 'normal');
 
 INSERT INTO category (name)
-SELECT 'library' FROM DUAL WHERE NOT EXISTS(SELECT * FROM category WHERE name = 'library');
\ No newline at end of file
+SELECT 'library' FROM DUAL WHERE NOT EXISTS(SELECT * FROM category WHERE name = 'library');
@@ -6,12 +6,11 @@ import com.kustacks.kuring.controller.dto.SubscribeCategoriesRequestDTO;
 import com.kustacks.kuring.domain.category.Category;
 import com.kustacks.kuring.domain.user.User;
 import com.kustacks.kuring.domain.user_category.UserCategory;
-import com.kustacks.kuring.error.APIException;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.user.UserUpdater;
 import com.kustacks.kuring.service.CategoryServiceImpl;
-import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.service.TokenValidityCache;
 import com.kustacks.kuring.service.UserServiceImpl;
 //import org.junit.Before;
 //import org.junit.Rule;
@@ -69,7 +68,7 @@ public class CategoryControllerTest {
     private CategoryServiceImpl categoryService;
 
     @MockBean
-    private FirebaseService firebaseService;
+    private TokenValidityCache tokenValidityCache;
 
     @MockBean
     private UserServiceImpl userService;
@@ -146,6 +145,7 @@ public class CategoryControllerTest {
         categoryNames.add("employment");
 
         // given
+        given(tokenValidityCache.isValid(token)).willReturn(true);
         given(categoryService.getUserCategories(token)).willReturn(categories);
         given(categoryService.getCategoryNamesFromCategories(categories)).willReturn(categoryNames);
 
@@ -185,7 +185,7 @@ public class CategoryControllerTest {
         String token = "INVALID_TOKEN";
 
         // given
-        doThrow(new APIException(ErrorCode.API_FB_INVALID_TOKEN)).when(firebaseService).verifyToken(token);
+        given(tokenValidityCache.isValid(token)).willReturn(false);
 
         // when
         ResultActions result = mockMvc.perform(get("/api/v1/notice/subscribe")
@@ -261,6 +261,7 @@ public class CategoryControllerTest {
 
         // given
         given(userService.getUserByToken(token)).willReturn(null);
+        given(tokenValidityCache.isValid(token)).willReturn(true);
         given(userService.insertUserToken(token)).willReturn(user);
         given(categoryService.compareCategories(categories, new LinkedList<>(), user)).willReturn(compareCategoriesResult);
 
@@ -304,7 +305,7 @@ public class CategoryControllerTest {
 
         // given
         given(userService.getUserByToken(token)).willReturn(null);
-        doThrow(firebaseMessagingException).when(firebaseService).verifyToken(token);
+        given(tokenValidityCache.isValid(token)).willReturn(false);
 
         // when
         ResultActions result = mockMvc.perform(post("/api/v1/notice/subscribe")
@@ -417,6 +418,7 @@ public class CategoryControllerTest {
         // given
         given(categoryService.verifyCategories(categories)).willReturn(categories);
         given(userService.getUserByToken(token)).willReturn(null);
+        given(tokenValidityCache.isValid(token)).willReturn(true);
         given(userService.insertUserToken(token)).willReturn(user);
         given(categoryService.compareCategories(categories, new LinkedList<>(), user)).willReturn(compareCategoriesResult);
         doThrow(firebaseMessagingException).when(categoryService).updateUserCategory(token, compareCategoriesResult);
@@ -1,11 +1,10 @@
 package com.kustacks.kuring.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.kustacks.kuring.controller.dto.SaveFeedbackRequestDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.service.FeedbackServiceImpl;
-import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.service.TokenValidityCache;
 //import org.junit.Before;
 //import org.junit.Rule;
 //import org.junit.Test;
@@ -14,7 +13,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 //import org.junit.runner.RunWith;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -32,7 +30,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import static com.kustacks.kuring.ApiDocumentUtils.getDocumentRequest;
 import static com.kustacks.kuring.ApiDocumentUtils.getDocumentResponse;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
@@ -56,14 +54,11 @@ public class FeedbackControllerTest {
     private MockMvc mockMvc;
 
     @MockBean
-    private FirebaseService firebaseService;
+    private TokenValidityCache tokenValidityCache;
 
     @MockBean
     private FeedbackServiceImpl feedbackService;
 
-    @Mock
-    private FirebaseMessagingException firebaseMessagingException;
-
     @BeforeEach
     public void setUp(RestDocumentationContextProvider restDocumentation) {
 
@@ -88,8 +83,9 @@ public class FeedbackControllerTest {
 
         // given
         /*
-            firebaseService.verifyToken 및 feedbackService.insertFeedback은 성공 시 void 리턴.
+            feedbackService.insertFeedback은 성공 시 void 리턴.
          */
+        given(tokenValidityCache.isValid(token)).willReturn(true);
 
         // when
         ResultActions result = mockMvc.perform(post("/api/v1/feedback")
@@ -132,7 +128,7 @@ public class FeedbackControllerTest {
         String requestBody = objectMapper.writeValueAsString(requestDTO);
 
         // given
-        doThrow(firebaseMessagingException).when(firebaseService).verifyToken(token);
+        given(tokenValidityCache.isValid(token)).willReturn(false);
 
         // when
         ResultActions result = mockMvc.perform(post("/api/v1/feedback")
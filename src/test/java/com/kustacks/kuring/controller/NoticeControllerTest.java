@@ -1,5 +1,6 @@
 package com.kustacks.kuring.controller;
 
+import com.kustacks.kuring.controller.dto.NoticeCursor;
 import com.kustacks.kuring.controller.dto.NoticeDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.service.NoticeServiceImpl;
@@ -21,11 +22,15 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.LinkedList;
 import java.util.List;
 
 import static com.kustacks.kuring.ApiDocumentUtils.getDocumentRequest;
 import static com.kustacks.kuring.ApiDocumentUtils.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -128,6 +133,90 @@ public class NoticeControllerTest {
                 );
     }
 
+    @DisplayName("공지 API - 커서 기반 조회 성공")
+    @Test
+    public void getNoticesAfterCursorSuccessTest() throws Exception {
+
+        type = "bch";
+        max = 1;
+        String after = "20211017000000,1024";
+
+        List<NoticeDTO> noticeDTOList = new LinkedList<>();
+        noticeDTOList.add(NoticeDTO.builder()
+                .id(1000L)
+                .articleId(articleId)
+                .postedDate(postedDate)
+                .postedAt(LocalDate.parse(postedDate, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay())
+                .subject(subject)
+                .categoryName(categoryName)
+                .build());
+
+        given(noticeService.getNoticesAfter(eq(categoryName), any(NoticeCursor.class), eq(max))).willReturn(noticeDTOList);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/notice")
+                .characterEncoding(StandardCharsets.UTF_8)
+                .accept(MediaType.APPLICATION_JSON)
+                .queryParam("type", type)
+                .queryParam("max", String.valueOf(max))
+                .queryParam("after", after));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("isSuccess").value(true))
+                .andExpect(jsonPath("noticeList").exists())
+                .andExpect(jsonPath("nextCursor").value(postedDate + "000000,1000"))
+                .andDo(document("notice-cursor-success",
+                                getDocumentRequest(),
+                                getDocumentResponse(),
+                                requestParameters(
+                                        parameterWithName("type").description("공지 카테고리 키워드")
+                                                .attributes(key("Constraints").value("bch, sch, emp, nat, stu, ind, nor, lib")),
+                                        parameterWithName("max").description("가져올 공지 최대 개수")
+                                                .attributes(key("Constraints").value("1 이상 30 이하의 정수")),
+                                        parameterWithName("after").description("이전 응답의 nextCursor. 이 커서 다음 공지부터 가져온다.")
+                                                .attributes(key("Constraints").value("<yyyyMMddHHmmss 형식의 게시일>,<ID> 형식의 문자열"))
+                                ),
+                                responseFields(
+                                        fieldWithPath("isSuccess").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                        fieldWithPath("resultMsg").type(JsonFieldType.STRING).description("결과 메세지"),
+                                        fieldWithPath("resultCode").type(JsonFieldType.NUMBER).description("결과 코드"),
+                                        fieldWithPath("baseUrl").type(JsonFieldType.STRING).description("공지 확인할 수 있는 url의 공통 부분"),
+                                        fieldWithPath("noticeList[].articleId").type(JsonFieldType.STRING).description("공지 ID"),
+                                        fieldWithPath("noticeList[].postedDate").type(JsonFieldType.STRING).description("공지 게시일"),
+                                        fieldWithPath("noticeList[].subject").type(JsonFieldType.STRING).description("공지 제목"),
+                                        fieldWithPath("noticeList[].category").type(JsonFieldType.STRING).description("공지 카테고리명"),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서. 가져온 공지 수가 max보다 적으면 생략된다.")
+                                ))
+
+                );
+    }
+
+    @DisplayName("공지 API - 실패 - 잘못된 커서")
+    @Test
+    public void getNoticesFailByInvalidCursorTest() throws Exception {
+        type = "bch";
+        max = 20;
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/notice")
+                .characterEncoding(StandardCharsets.UTF_8)
+                .accept(MediaType.APPLICATION_JSON)
+                .queryParam("type", type)
+                .queryParam("max", String.valueOf(max))
+                .queryParam("after", "invalid-cursor"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("isSuccess").value(false))
+                .andExpect(jsonPath("resultMsg").value(ErrorCode.API_INVALID_PARAM.getMessage()))
+                .andExpect(jsonPath("resultCode").value(HttpStatus.BAD_REQUEST.value()))
+                .andDo(document("notice-fail-invalid-cursor",
+                        getDocumentRequest(),
+                        getDocumentResponse())
+                );
+    }
+
     @DisplayName("공지 API - 실패 - 잘못된 공지 카테고리")
     @Test
     public void getNoticesFailByInvalidTypeTest() throws Exception {
@@ -0,0 +1,81 @@
+package com.kustacks.kuring.domain.notice;
+
+import com.kustacks.kuring.domain.category.Category;
+import com.kustacks.kuring.domain.category.CategoryRepository;
+import com.kustacks.kuring.domain.schema_migration.SchemaMigrator;
+import com.kustacks.kuring.util.converter.PostedDateToLocalDateTimeConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({SchemaMigrator.class, PostedDateToLocalDateTimeConverter.class})
+@TestPropertySource("classpath:test-constants.properties")
+public class NoticeRepositoryTest {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.saveAndFlush(new Category("bachelor"));
+    }
+
+    @Test
+    @DisplayName("이미 있는 공지는 그대로 두고, 새로 삽입된 공지만 id와 함께 반환")
+    void upsertReportsOnlyNewNotices() {
+
+        List<Notice> inserted = noticeRepository.upsertAllInBatch(Collections.singletonList(notice("1", "기존 공지")));
+        assertEquals(1, inserted.size());
+        assertNotNull(inserted.get(0).getId());
+        Long existingId = inserted.get(0).getId();
+
+        List<Notice> upserted = noticeRepository.upsertAllInBatch(Arrays.asList(notice("1", "바뀐 제목"), notice("2", "새 공지")));
+
+        assertEquals(1, upserted.size());
+        assertEquals("2", upserted.get(0).getArticleId());
+        assertNotNull(upserted.get(0).getId());
+
+        List<Notice> notices = noticeRepository.findByCategory(category);
+        assertEquals(2, notices.size());
+
+        Notice existingNotice = noticeRepository.findById(existingId).orElseThrow();
+        assertEquals("기존 공지", existingNotice.getSubject());
+    }
+
+    @Test
+    @DisplayName("모두 이미 있는 공지라면 새 공지가 없음")
+    void upsertExistingNotices() {
+
+        noticeRepository.upsertAllInBatch(Arrays.asList(notice("1", "공지1"), notice("2", "공지2")));
+
+        assertTrue(noticeRepository.upsertAllInBatch(Arrays.asList(notice("1", "공지1"), notice("2", "공지2"))).isEmpty());
+        assertEquals(2, noticeRepository.findByCategory(category).size());
+    }
+
+    private Notice notice(String articleId, String subject) {
+        return Notice.builder()
+                .articleId(articleId)
+                .postedDate("20211017")
+                .postedAt(LocalDateTime.of(2021, 10, 17, 0, 0))
+                .subject(subject)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.kustacks.kuring.kuapi;
+
+import com.kustacks.kuring.domain.scheduler_lock.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SchedulerLockManagerTest {
+
+    private static final long MINUTE = 60 * 1000L;
+
+    private SchedulerLockRepository schedulerLockRepository;
+    private SchedulerLockManager schedulerLockManager;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLockRepository = mock(SchedulerLockRepository.class);
+        schedulerLockManager = new SchedulerLockManager(schedulerLockRepository, 5 * MINUTE, 10 * MINUTE);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 잠금을 갖고 있다면 follower-retry-interval 동안 다시 요청하지 않음")
+    void followerBacksOff() {
+
+        when(schedulerLockRepository.tryAcquire(eq("notice-updater"), any(), any(), any())).thenReturn(null);
+
+        assertTrue(schedulerLockManager.keepOrAcquire("notice-updater", null).isEmpty());
+        assertTrue(schedulerLockManager.keepOrAcquire("notice-updater", null).isEmpty());
+        verify(schedulerLockRepository, times(1)).tryAcquire(eq("notice-updater"), any(), any(), any());
+
+        // 다른 잠금과 작업 단위 잠금(tryAcquire)은 영향을 받지 않는다.
+        schedulerLockManager.keepOrAcquire("notice-outbox", null);
+        schedulerLockManager.tryAcquire("notice-updater");
+        verify(schedulerLockRepository).tryAcquire(eq("notice-outbox"), any(), any(), any());
+        verify(schedulerLockRepository, times(2)).tryAcquire(eq("notice-updater"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("갖고 있는 잠금이 유효하면 다시 요청하지 않고, 잃었다면 새로 요청")
+    void keepHeldLease() {
+
+        when(schedulerLockRepository.tryAcquire(eq("notice-outbox"), any(), any(), any())).thenReturn(1L);
+
+        SchedulerLockManager.Lease lease = schedulerLockManager.keepOrAcquire("notice-outbox", null).orElseThrow();
+        assertSame(lease, schedulerLockManager.keepOrAcquire("notice-outbox", lease).orElseThrow());
+        verify(schedulerLockRepository, times(1)).tryAcquire(eq("notice-outbox"), any(), any(), any());
+
+        when(schedulerLockRepository.renew(any(), any(), anyLong(), any(), any())).thenReturn(false);
+        schedulerLockManager.renewLeases();
+        assertTrue(lease.isLost());
+
+        Optional<SchedulerLockManager.Lease> acquiredLease = schedulerLockManager.keepOrAcquire("notice-outbox", lease);
+        assertTrue(acquiredLease.isPresent());
+        assertNotSame(lease, acquiredLease.get());
+    }
+}
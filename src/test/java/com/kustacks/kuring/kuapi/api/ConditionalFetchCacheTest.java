@@ -0,0 +1,111 @@
+package com.kustacks.kuring.kuapi.api;
+
+import org.jsoup.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConditionalFetchCacheTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final String KEY = "http://localhost/staff";
+
+    private ConditionalFetchCache conditionalFetchCache;
+
+    @BeforeEach
+    void setUp() {
+        conditionalFetchCache = new ConditionalFetchCache(100, DAY);
+    }
+
+    @Test
+    @DisplayName("바뀐 응답은 commit한 뒤부터 바뀌지 않은 것으로 처리")
+    void modifiedUntilCommit() throws MalformedURLException {
+
+        assertNotNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>")));
+
+        // commit 전에는 보관한 응답이 없으므로 같은 응답도 바뀐 것으로 본다.
+        assertNotNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>")));
+        assertNull(conditionalFetchCache.get(KEY));
+
+        conditionalFetchCache.commit(Collections.singletonList(KEY));
+
+        assertNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>")));
+        assertNotNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>B</p>")));
+    }
+
+    @Test
+    @DisplayName("discard한 응답은 다음 요청에서 다시 바뀐 것으로 처리")
+    void discardedResponseIsModifiedAgain() throws MalformedURLException {
+
+        conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>"));
+        conditionalFetchCache.commit(Collections.singletonList(KEY));
+
+        assertNotNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>B</p>")));
+        conditionalFetchCache.discard(Collections.singletonList(KEY));
+        conditionalFetchCache.commit(Collections.singletonList(KEY));
+
+        assertNotNull(conditionalFetchCache.parseIfModified(KEY, response(200, "<p>B</p>")));
+        assertEquals(ConditionalFetchCache.hash("<p>A</p>"), conditionalFetchCache.get(KEY).getBodyHash());
+    }
+
+    @Test
+    @DisplayName("보관한 응답의 검증자로 조건부 요청하고, 304 응답은 바뀌지 않은 것으로 처리")
+    void notModified() throws MalformedURLException {
+
+        conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>"));
+        conditionalFetchCache.commit(Collections.singletonList(KEY));
+
+        Connection connection = mock(Connection.class);
+        conditionalFetchCache.applyValidators(KEY, connection);
+        verify(connection).header("If-None-Match", "etag");
+
+        assertNull(conditionalFetchCache.parseIfModified(KEY, response(304, "")));
+    }
+
+    @Test
+    @DisplayName("파싱한 결과는 응답과 함께 commit된다")
+    void stagePayload() throws MalformedURLException {
+
+        List<String[]> records = Collections.singletonList(new String[]{"홍길동"});
+
+        conditionalFetchCache.parseIfModified(KEY, response(200, "<p>A</p>"));
+        conditionalFetchCache.stagePayload(KEY, records);
+        assertNull(conditionalFetchCache.get(KEY));
+
+        conditionalFetchCache.commit(Collections.singletonList(KEY));
+        assertSame(records, conditionalFetchCache.get(KEY).getPayload());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 응답부터 버림")
+    void boundedSize() {
+
+        conditionalFetchCache = new ConditionalFetchCache(2, DAY);
+        conditionalFetchCache.put("1", null, null, "hash1", null);
+        conditionalFetchCache.put("2", null, null, "hash2", null);
+        conditionalFetchCache.put("3", null, null, "hash3", null);
+
+        assertNull(conditionalFetchCache.get("1"));
+        assertNotNull(conditionalFetchCache.get("2"));
+        assertNotNull(conditionalFetchCache.get("3"));
+    }
+
+    private Connection.Response response(int statusCode, String body) throws MalformedURLException {
+
+        Connection.Response response = mock(Connection.Response.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.body()).thenReturn(body);
+        when(response.header("ETag")).thenReturn("etag");
+        when(response.url()).thenReturn(new URL(KEY));
+
+        return response;
+    }
+}
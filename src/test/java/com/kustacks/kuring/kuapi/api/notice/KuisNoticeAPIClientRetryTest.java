@@ -7,6 +7,7 @@ import com.kustacks.kuring.error.InternalLogicException;
 import com.kustacks.kuring.kuapi.CategoryName;
 import com.kustacks.kuring.kuapi.notice.dto.request.*;
 import com.kustacks.kuring.util.converter.KuisNoticeDTOToCommonFormatDTOConverter;
+import com.kustacks.kuring.util.converter.PostedDateToLocalDateTimeConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
-@SpringJUnitConfig({KuisNoticeAPIClient.class, RestTemplate.class, KuisNoticeDTOToCommonFormatDTOConverter.class,
+@SpringJUnitConfig({KuisNoticeAPIClient.class, RestTemplate.class, KuisNoticeDTOToCommonFormatDTOConverter.class, PostedDateToLocalDateTimeConverter.class,
         BachelorKuisNoticeRequestBody.class,
         ScholarshipKuisNoticeRequestBody.class,
         EmploymentKuisNoticeRequestBody.class,
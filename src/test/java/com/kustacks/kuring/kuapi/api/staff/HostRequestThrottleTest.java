@@ -0,0 +1,68 @@
+package com.kustacks.kuring.kuapi.api.staff;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HostRequestThrottleTest {
+
+    @Test
+    @DisplayName("한 호스트에 동시에 보내는 요청은 staff.host-concurrency개를 넘지 않음")
+    void limitConcurrency() throws Exception {
+
+        HostRequestThrottle hostRequestThrottle = new HostRequestThrottle(2, 0);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i=0; i<6; ++i) {
+                futures.add(executor.submit(() -> hostRequestThrottle.execute("http://localhost/staff", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(100);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return running.decrementAndGet();
+                })));
+            }
+
+            for (Future<Integer> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("한 호스트로 보내는 요청의 시작 시각은 staff.host-delay만큼 간격을 둠")
+    void spaceRequests() throws Exception {
+
+        HostRequestThrottle hostRequestThrottle = new HostRequestThrottle(2, 100);
+
+        List<Long> startedAts = new ArrayList<>();
+        for (int i=0; i<3; ++i) {
+            hostRequestThrottle.execute("http://localhost/staff", () -> startedAts.add(System.currentTimeMillis()));
+        }
+
+        assertTrue(startedAts.get(1) - startedAts.get(0) >= 90);
+        assertTrue(startedAts.get(2) - startedAts.get(1) >= 90);
+
+        // 다른 호스트는 기다리지 않는다.
+        long start = System.currentTimeMillis();
+        hostRequestThrottle.execute("http://127.0.0.1/staff", () -> null);
+        assertTrue(System.currentTimeMillis() - start < 90);
+    }
+}
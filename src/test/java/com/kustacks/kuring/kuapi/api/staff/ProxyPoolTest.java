@@ -0,0 +1,106 @@
+package com.kustacks.kuring.kuapi.api.staff;
+
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProxyPoolTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Test
+    @DisplayName("요청에 실패한 프록시는 차단 시간 동안 선택되지 않음")
+    void failureOpensCircuit() {
+
+        ProxyPool proxyPool = new ProxyPool("1.1.1.1:80,2.2.2.2:80", DAY);
+        ProxyPool.Proxy first = proxyPool.getProxies().get(0);
+        ProxyPool.Proxy second = proxyPool.getProxies().get(1);
+
+        proxyPool.recordFailure(first);
+
+        assertEquals(Collections.singletonList(second), proxyPool.select());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번의 시험 요청만 보내고, 성공하면 차단을 해제")
+    void halfOpenAllowsSingleTrial() {
+
+        ProxyPool proxyPool = new ProxyPool("1.1.1.1:80,2.2.2.2:80", 0);
+        ProxyPool.Proxy first = proxyPool.getProxies().get(0);
+
+        proxyPool.recordFailure(first);
+
+        assertTrue(proxyPool.select().contains(first));
+        assertFalse(proxyPool.select().contains(first));
+
+        proxyPool.recordSuccess(first, 100);
+
+        assertTrue(proxyPool.select().contains(first));
+        assertTrue(proxyPool.select().contains(first));
+    }
+
+    @Test
+    @DisplayName("반납하거나 실패를 기록한 시험 요청의 프록시는 다시 선택될 수 있음")
+    void trialEndsOnReleaseOrFailure() {
+
+        ProxyPool proxyPool = new ProxyPool("1.1.1.1:80,2.2.2.2:80", 0);
+        ProxyPool.Proxy first = proxyPool.getProxies().get(0);
+
+        proxyPool.recordFailure(first);
+        List<ProxyPool.Proxy> selected = proxyPool.select();
+        assertTrue(selected.contains(first));
+
+        proxyPool.release(Collections.singletonList(first));
+        assertTrue(proxyPool.select().contains(first));
+
+        proxyPool.recordFailure(first);
+        assertTrue(proxyPool.select().contains(first));
+    }
+
+    @Test
+    @DisplayName("모든 프록시가 차단되면 가장 먼저 차단된 프록시로 시험 요청")
+    void allOpenSelectsOldest() throws InterruptedException {
+
+        ProxyPool proxyPool = new ProxyPool("1.1.1.1:80,2.2.2.2:80", DAY);
+        ProxyPool.Proxy first = proxyPool.getProxies().get(0);
+        ProxyPool.Proxy second = proxyPool.getProxies().get(1);
+
+        proxyPool.recordFailure(second);
+        Thread.sleep(5);
+        proxyPool.recordFailure(first);
+
+        assertEquals(Collections.singletonList(second), proxyPool.select());
+        assertTrue(proxyPool.select().isEmpty());
+    }
+
+    @Test
+    @DisplayName("시험 요청이 RuntimeException으로 실패해도 프록시가 다시 선택됨")
+    void runtimeExceptionEndsTrial() {
+
+        ProxyPool proxyPool = new ProxyPool("1.1.1.1:80", 0);
+        ProxyPool.Proxy proxy = proxyPool.getProxies().get(0);
+        proxyPool.recordFailure(proxy);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        ProxyJsoupClient proxyJsoupClient = new ProxyJsoupClient(proxyPool, new HostRequestThrottle(2, 0),
+                new ConditionalFetchCache(100, DAY), executor, 1000, 1000);
+        try {
+            // 잘못된 URL이면 Jsoup이 IllegalArgumentException을 던진다.
+            assertThrows(IOException.class, () -> proxyJsoupClient.get("잘못된 주소", 1000));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Collections.singletonList(proxy), proxyPool.select());
+    }
+}
@@ -1,9 +1,11 @@
 package com.kustacks.kuring.kuapi.api.staff;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kustacks.kuring.config.ExecutorConfig;
 import com.kustacks.kuring.controller.dto.StaffDTO;
 import com.kustacks.kuring.error.ErrorCode;
 import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
 import com.kustacks.kuring.kuapi.api.staff.dto.TestStaffDTO;
 import com.kustacks.kuring.kuapi.scrap.StaffScraper;
 import com.kustacks.kuring.kuapi.scrap.parser.EachDeptHTMLParser;
@@ -45,9 +47,9 @@ import static org.mockserver.model.HttpResponse.response;
         StaffScraper.class,
         EachDeptStaffAPIClient.class, KuStaffAPIClient.class, RealEstateStaffAPIClient.class,
         EachDeptHTMLParser.class, KuHTMLParser.class, RealEstateHTMLParser.class,
-        NormalJsoupClient.class,
+        NormalJsoupClient.class, HostRequestThrottle.class, ConditionalFetchCache.class,
         KoreanDept.class, LivingDesignDept.class, CommunicationDesignDept.class, RealEstateDept.class,
-        ObjectMapper.class})
+        ObjectMapper.class, ExecutorConfig.class})
 @TestPropertySource("classpath:test-constants.properties")
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 public class StaffScraperTest {
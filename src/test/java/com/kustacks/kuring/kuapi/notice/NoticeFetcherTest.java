@@ -0,0 +1,88 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.api.RequestDeadline;
+import com.kustacks.kuring.kuapi.api.notice.NoticeAPIClient;
+import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class NoticeFetcherTest {
+
+    private static final long FETCH_TIMEOUT = 500;
+
+    private ThreadPoolTaskExecutor executor;
+    private NoticeAPIClient noticeAPIClient;
+    private NoticeFetcher noticeFetcher;
+
+    // 카테고리별로 수신 중 요청에 적용된 타임아웃
+    private final Map<CategoryName, Integer> requestTimeouts = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+
+        // 한 번에 한 카테고리만 수신해서, 두 번째 카테고리는 큐에서 기다린다.
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.initialize();
+
+        noticeAPIClient = mock(NoticeAPIClient.class);
+
+        Map<CategoryName, NoticeAPIClient> noticeAPIClientMap = new EnumMap<>(CategoryName.class);
+        for (CategoryName categoryName : CategoryName.values()) {
+            noticeAPIClientMap.put(categoryName, noticeAPIClient);
+        }
+
+        noticeFetcher = new NoticeFetcher(noticeAPIClientMap, executor);
+        ReflectionTestUtils.setField(noticeFetcher, "fetchTimeout", FETCH_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐에서 기다린 카테고리도 수신을 시작한 뒤 notice.fetch-timeout 동안 기다림")
+    void deadlineStartsWithFetch() {
+
+        doAnswer(invocation -> {
+            requestTimeouts.put(invocation.getArgument(0), RequestDeadline.boundTimeout(5000));
+            Thread.sleep(300);
+            return Collections.<CommonNoticeFormatDTO>emptyList();
+        }).when(noticeAPIClient).getNotices(any());
+
+        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = noticeFetcher.fetch(Arrays.asList(CategoryName.BACHELOR, CategoryName.SCHOLARSHIP));
+
+        assertEquals(EnumSet.of(CategoryName.BACHELOR, CategoryName.SCHOLARSHIP), apiNoticesMap.keySet());
+        assertTrue(requestTimeouts.get(CategoryName.BACHELOR) <= FETCH_TIMEOUT);
+        assertTrue(requestTimeouts.get(CategoryName.SCHOLARSHIP) <= FETCH_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 응답하지 않은 카테고리만 제외")
+    void slowCategoryTimesOut() {
+
+        doAnswer(invocation -> {
+            if(invocation.getArgument(0) == CategoryName.BACHELOR) {
+                Thread.sleep(FETCH_TIMEOUT * 2);
+            }
+            return Collections.<CommonNoticeFormatDTO>emptyList();
+        }).when(noticeAPIClient).getNotices(any());
+
+        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = noticeFetcher.fetch(Arrays.asList(CategoryName.BACHELOR, CategoryName.SCHOLARSHIP));
+
+        assertEquals(EnumSet.of(CategoryName.SCHOLARSHIP), apiNoticesMap.keySet());
+    }
+}
@@ -0,0 +1,163 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.kustacks.kuring.controller.dto.NoticeMessageDTO;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutbox;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxRepository;
+import com.kustacks.kuring.domain.notice_outbox.NoticeOutboxStatus;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
+import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.util.converter.DTOConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NoticeOutboxDispatcherTest {
+
+    private static final long RETRY_BACKOFF = 1000;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private NoticeOutboxRecorder noticeOutboxRecorder;
+    private FirebaseService firebaseService;
+    private SchedulerLockManager.Lease lease;
+    private NoticeOutboxDispatcher noticeOutboxDispatcher;
+
+    private NoticeOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+
+        noticeOutboxRecorder = mock(NoticeOutboxRecorder.class);
+        lease = mock(SchedulerLockManager.Lease.class);
+
+        DTOConverter dtoConverter = mock(DTOConverter.class);
+        when(dtoConverter.convert(any())).thenAnswer(invocation -> mock(NoticeMessageDTO.class));
+
+        firebaseService = mock(FirebaseService.class);
+        when(firebaseService.sendMessages(any())).thenReturn(Collections.emptyMap());
+
+        noticeOutboxDispatcher = new NoticeOutboxDispatcher(mock(NoticeOutboxRepository.class), noticeOutboxRecorder, firebaseService, dtoConverter,
+                mock(SchedulerLockManager.class), 100, MAX_ATTEMPTS, RETRY_BACKOFF);
+
+        when(lease.isLost()).thenReturn(false);
+
+        outbox = NoticeOutbox.builder()
+                .articleId("1")
+                .postedDate("20211017")
+                .subject("공지")
+                .categoryName("bachelor")
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("잠금을 유지하면 전송 결과를 저장")
+    void saveWhileLeaseHeld() {
+
+        assertTrue(noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease));
+
+        assertEquals(NoticeOutboxStatus.SENT, outbox.getStatus());
+        verify(noticeOutboxRecorder).save(List.of(outbox), lease);
+    }
+
+    @Test
+    @DisplayName("저장하는 트랜잭션에서 잠금을 잃은 것을 확인하면 전송 결과를 저장하지 않음")
+    void skipSaveAfterLeaseLost() {
+
+        doThrow(new InternalLogicException(ErrorCode.SCHEDULER_LOCK_LOST)).when(noticeOutboxRecorder).save(any(), any());
+
+        assertFalse(noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease));
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 실패한 알림은 PENDING으로 남기고, 실패 횟수에 따라 두 배씩 늘어난 대기 시간 뒤에 다시 시도")
+    void retryableFailureBacksOff() {
+
+        FirebaseMessagingException e = failWith(true);
+        outbox.setAttemptCount(2);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertTrue(noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease));
+        LocalDateTime after = LocalDateTime.now();
+
+        verify(firebaseService).isRetryable(e);
+        assertEquals(NoticeOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(3, outbox.getAttemptCount());
+
+        // 세 번째 실패이므로 retryBackoff << 2
+        long backoff = RETRY_BACKOFF << 2;
+        assertFalse(outbox.getNextAttemptDate().isBefore(before.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff))));
+        assertFalse(outbox.getNextAttemptDate().isAfter(after.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff))));
+        verify(noticeOutboxRecorder).save(List.of(outbox), lease);
+    }
+
+    @Test
+    @DisplayName("다시 시도할 수 없는 오류로 실패한 알림은 바로 FAILED")
+    void nonRetryableFailureFails() {
+
+        failWith(false);
+
+        noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease);
+
+        assertEquals(NoticeOutboxStatus.FAILED, outbox.getStatus());
+        assertEquals(1, outbox.getAttemptCount());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 알림은 FAILED")
+    void maxAttemptsFails() {
+
+        failWith(true);
+        outbox.setAttemptCount(MAX_ATTEMPTS - 1);
+
+        noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease);
+
+        assertEquals(NoticeOutboxStatus.FAILED, outbox.getStatus());
+        assertEquals(MAX_ATTEMPTS, outbox.getAttemptCount());
+    }
+
+    @Test
+    @DisplayName("전송 요청 자체가 알 수 없는 오류로 실패하면 모든 알림을 다시 시도")
+    void unknownFailureIsRetryable() {
+
+        when(firebaseService.sendMessages(any())).thenThrow(new IllegalStateException("FCM 오류"));
+        LocalDateTime createdDate = outbox.getNextAttemptDate();
+
+        noticeOutboxDispatcher.dispatchBatch(List.of(outbox), lease);
+
+        verify(firebaseService, never()).isRetryable(any());
+        assertEquals(NoticeOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttemptCount());
+        assertTrue(outbox.getNextAttemptDate().isAfter(createdDate));
+    }
+
+    // 전송하는 모든 메세지가 e로 실패하고, e를 다시 시도할 수 있는지는 isRetryable로 정한다.
+    private FirebaseMessagingException failWith(boolean isRetryable) {
+
+        FirebaseMessagingException e = mock(FirebaseMessagingException.class);
+        when(firebaseService.isRetryable(e)).thenReturn(isRetryable);
+        when(firebaseService.sendMessages(any())).thenAnswer(invocation -> {
+            List<NoticeMessageDTO> messageDTOList = invocation.getArgument(0);
+            Map<NoticeMessageDTO, FirebaseMessagingException> failedMessages = new IdentityHashMap<>();
+            for (NoticeMessageDTO messageDTO : messageDTOList) {
+                failedMessages.put(messageDTO, e);
+            }
+            return failedMessages;
+        });
+
+        return e;
+    }
+}
@@ -0,0 +1,88 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.kuapi.CategoryName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoticePollingPolicyTest {
+
+    private static final long MINUTE = 60 * 1000L;
+
+    private final long minInterval = 2 * MINUTE;
+    private final long maxInterval = 60 * MINUTE;
+    private final long defaultInterval = 10 * MINUTE;
+
+    private NoticePollingPolicy noticePollingPolicy;
+
+    @BeforeEach
+    void setUp() {
+        noticePollingPolicy = new NoticePollingPolicy(minInterval, maxInterval, defaultInterval, 0.05);
+    }
+
+    @Test
+    @DisplayName("처음에는 모든 카테고리를 수신하고, 기록이 없으면 기본 간격 후에 다시 수신")
+    void defaultInterval() {
+
+        long now = System.currentTimeMillis();
+        assertEquals(Arrays.asList(CategoryName.values()), noticePollingPolicy.dueCategories(now));
+
+        noticePollingPolicy.recordPoll(CategoryName.BACHELOR, false, now);
+
+        assertFalse(noticePollingPolicy.dueCategories(now).contains(CategoryName.BACHELOR));
+        assertEquals(now + defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR), 1000);
+    }
+
+    @Test
+    @DisplayName("자주 바뀌는 카테고리는 최소 간격까지 자주, 바뀌지 않는 카테고리는 최대 간격까지 드물게 수신")
+    void adaptToChangeRate() {
+
+        long now = System.currentTimeMillis();
+        for (int i=0; i<7 * 24 * 4; ++i) {
+            now += 15 * MINUTE;
+            noticePollingPolicy.recordPoll(CategoryName.BACHELOR, true, now);
+            noticePollingPolicy.recordPoll(CategoryName.INDUSTRY_UNIV, false, now);
+        }
+
+        assertEquals(now + minInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR));
+        assertEquals(now + maxInterval, noticePollingPolicy.getNextPollAt(CategoryName.INDUSTRY_UNIV));
+    }
+
+    @Test
+    @DisplayName("수신 실패는 변경률을 바꾸지 않음")
+    void failureKeepsInterval() {
+
+        long now = System.currentTimeMillis();
+        noticePollingPolicy.recordFailure(CategoryName.LIBRARY, now);
+
+        assertEquals(now + defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.LIBRARY), 1000);
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 최대 간격까지 간격을 두 배씩 늘리고, 성공하면 원래 간격으로 돌아옴")
+    void consecutiveFailuresBackOff() {
+
+        long now = System.currentTimeMillis();
+        noticePollingPolicy.recordFailure(CategoryName.BACHELOR, now);
+        assertEquals(now + defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR), 1000);
+
+        noticePollingPolicy.recordFailure(CategoryName.BACHELOR, now);
+        assertEquals(now + 2 * defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR), 1000);
+
+        noticePollingPolicy.recordFailure(CategoryName.BACHELOR, now);
+        assertEquals(now + 4 * defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR), 1000);
+
+        for (int i=0; i<10; ++i) {
+            noticePollingPolicy.recordFailure(CategoryName.BACHELOR, now);
+        }
+        assertEquals(now + maxInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR));
+
+        noticePollingPolicy.recordPoll(CategoryName.BACHELOR, false, now);
+        noticePollingPolicy.recordFailure(CategoryName.BACHELOR, now);
+        assertEquals(now + defaultInterval, noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR), 1000);
+    }
+}
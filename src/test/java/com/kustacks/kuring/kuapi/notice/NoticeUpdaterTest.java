@@ -0,0 +1,78 @@
+package com.kustacks.kuring.kuapi.notice;
+
+import com.kustacks.kuring.domain.category.Category;
+import com.kustacks.kuring.domain.category.CategoryRepository;
+import com.kustacks.kuring.domain.notice.NoticeRepository;
+import com.kustacks.kuring.domain.notice_watermark.NoticeWatermarkRepository;
+import com.kustacks.kuring.kuapi.CategoryName;
+import com.kustacks.kuring.kuapi.SchedulerLockManager;
+import com.kustacks.kuring.kuapi.notice.dto.response.CommonNoticeFormatDTO;
+import com.kustacks.kuring.service.NoticeCache;
+import com.kustacks.kuring.service.search.NoticeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NoticeUpdaterTest {
+
+    private static final long MINUTE = 60 * 1000L;
+
+    private NoticeSynchronizer noticeSynchronizer;
+    private NoticePollingPolicy noticePollingPolicy;
+    private NoticeUpdater noticeUpdater;
+
+    @BeforeEach
+    void setUp() {
+
+        Map<CategoryName, List<CommonNoticeFormatDTO>> apiNoticesMap = new LinkedHashMap<>();
+        apiNoticesMap.put(CategoryName.BACHELOR, Collections.emptyList());
+        apiNoticesMap.put(CategoryName.SCHOLARSHIP, Collections.emptyList());
+
+        NoticeFetcher noticeFetcher = mock(NoticeFetcher.class);
+        when(noticeFetcher.fetch(any())).thenReturn(apiNoticesMap);
+
+        Map<String, Category> categoryMap = new HashMap<>();
+        for (CategoryName categoryName : CategoryName.values()) {
+            categoryMap.put(categoryName.getName(), new Category(categoryName.getName()));
+        }
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllMap()).thenReturn(categoryMap);
+
+        SchedulerLockManager schedulerLockManager = mock(SchedulerLockManager.class);
+        when(schedulerLockManager.keepOrAcquire(any(), any())).thenReturn(Optional.of(mock(SchedulerLockManager.Lease.class)));
+
+        noticeSynchronizer = mock(NoticeSynchronizer.class);
+        noticePollingPolicy = new NoticePollingPolicy(2 * MINUTE, 60 * MINUTE, 10 * MINUTE, 0.05);
+
+        noticeUpdater = new NoticeUpdater(noticeFetcher, noticeSynchronizer, categoryRepository,
+                mock(NoticeCache.class), mock(NoticeSearchIndex.class), noticePollingPolicy, schedulerLockManager,
+                mock(NoticeRepository.class), mock(NoticeWatermarkRepository.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("한 카테고리의 동기화에 실패해도 다음 카테고리를 동기화하고, 실패한 카테고리는 바로 다시 수신하지 않음")
+    void syncFailureBacksOff() {
+
+        when(noticeSynchronizer.synchronize(eq(CategoryName.BACHELOR), any(), any(), any()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+        when(noticeSynchronizer.synchronize(eq(CategoryName.SCHOLARSHIP), any(), any(), any()))
+                .thenReturn(NoticeSyncResult.empty());
+
+        assertDoesNotThrow(() -> noticeUpdater.update());
+
+        verify(noticeSynchronizer).synchronize(eq(CategoryName.SCHOLARSHIP), any(), any(), any());
+
+        long now = System.currentTimeMillis();
+        List<CategoryName> dueCategories = noticePollingPolicy.dueCategories(now);
+        assertFalse(dueCategories.contains(CategoryName.BACHELOR));
+        assertFalse(dueCategories.contains(CategoryName.SCHOLARSHIP));
+        assertTrue(noticePollingPolicy.getNextPollAt(CategoryName.BACHELOR) > now);
+    }
+}
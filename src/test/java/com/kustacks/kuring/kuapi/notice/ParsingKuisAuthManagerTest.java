@@ -22,6 +22,9 @@ import org.springframework.web.client.RestTemplate;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -116,6 +119,37 @@ public class ParsingKuisAuthManagerTest {
 
     @Test
     @Order(3)
+    @DisplayName("성공 - 동시에 세션ID를 요청해도 로그인은 한 번만 진행")
+    void successWithConcurrentRequests() throws InterruptedException, ExecutionException {
+
+        // given
+        server.expect(times(1), requestTo(apiSkeletonProducerUrl)).andRespond(withSuccess().body(apiSkeleton));
+        server.expect(times(1), requestTo(loginUrl)).andExpect(method(HttpMethod.POST)).andRespond(withSuccess().body(successResponseBody));
+
+        int threadCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = new LinkedList<>();
+        for (int i=0; i<threadCount; ++i) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return kuisAuthManager.getSessionId();
+            }));
+        }
+        startLatch.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertEquals(testCookie, future.get());
+        }
+        executorService.shutdown();
+        server.verify();
+    }
+
+    @Test
+    @Order(4)
     @DisplayName("실패 - 응답 body가 없음")
     void failByNoBody() {
 
@@ -131,7 +165,7 @@ public class ParsingKuisAuthManagerTest {
     }
 
     @Test
-    @Order(4)
+    @Order(5)
     @DisplayName("실패 - 응답 body에 success 문자열이 없음 (kuis 로그인 방식이 바뀜 or api skeleton 최신화 안됨)")
     void failByNoSuccessStringInBody() {
 
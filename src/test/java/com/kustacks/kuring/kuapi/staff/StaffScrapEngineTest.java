@@ -0,0 +1,140 @@
+package com.kustacks.kuring.kuapi.staff;
+
+import com.kustacks.kuring.controller.dto.StaffDTO;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.scrap.StaffScrapStat;
+import com.kustacks.kuring.kuapi.scrap.StaffScraper;
+import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StaffScrapEngineTest {
+
+    private final DeptInfo deptInfo = new DeptInfo("1", "국어국문학과", "문과대학", new String[]{"1"});
+    private final List<StaffDTO> staffDTOList = Collections.singletonList(StaffDTO.builder().name("홍길동").email("staff@konkuk.ac.kr").build());
+
+    private StaffScraper staffScraper;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        staffScraper = mock(StaffScraper.class);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 시도에서 바뀐 페이지를 받았다면, 재시도에서 바뀌지 않았어도 바뀐 것으로 보고")
+    void modifiedIsStickyAcrossRetries() {
+
+        when(staffScraper.scrap(eq(deptInfo), any(StaffScrapStat.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<StaffScrapStat>getArgument(1).countPage("page", true);
+                    throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP);
+                })
+                .thenAnswer(invocation -> {
+                    invocation.<StaffScrapStat>getArgument(1).countPage("page", false);
+                    return staffDTOList;
+                });
+
+        DeptScrapReport report = scrapAll(3, 5000);
+
+        assertTrue(report.isSuccess());
+        assertEquals(2, report.getAttemptCount());
+        assertEquals(0, report.getModifiedPageCount());
+        assertTrue(report.isModified());
+        assertEquals(Collections.singleton("page"), report.getPageKeys());
+    }
+
+    @Test
+    @DisplayName("실패한 학과는 성공할 때까지 재시도")
+    void retryUntilSuccess() {
+
+        when(staffScraper.scrap(eq(deptInfo), any(StaffScrapStat.class)))
+                .thenThrow(new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP))
+                .thenThrow(new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP))
+                .thenReturn(staffDTOList);
+
+        DeptScrapReport report = scrapAll(3, 5000);
+
+        assertTrue(report.isSuccess());
+        assertEquals(3, report.getAttemptCount());
+        assertEquals(staffDTOList, report.getStaffDTOList());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 마지막 예외로 실패 처리")
+    void failAfterMaxAttempts() {
+
+        when(staffScraper.scrap(eq(deptInfo), any(StaffScrapStat.class)))
+                .thenThrow(new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP));
+
+        DeptScrapReport report = scrapAll(2, 5000);
+
+        assertFalse(report.isSuccess());
+        assertEquals(2, report.getAttemptCount());
+        assertTrue(report.getFailure() instanceof InternalLogicException);
+        verify(staffScraper, times(2)).scrap(eq(deptInfo), any(StaffScrapStat.class));
+    }
+
+    @Test
+    @DisplayName("staff.scrap-timeout 안에 끝나지 않은 학과는 기다리지 않고 실패 처리")
+    void timeout() {
+
+        when(staffScraper.scrap(eq(deptInfo), any(StaffScrapStat.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(2000);
+                    return staffDTOList;
+                });
+
+        long start = System.currentTimeMillis();
+        DeptScrapReport report = scrapAll(3, 100);
+
+        assertFalse(report.isSuccess());
+        assertTrue(report.getFailure() instanceof TimeoutException);
+        assertTrue(System.currentTimeMillis() - start < 2000);
+    }
+
+    @Test
+    @DisplayName("시간 초과로 실패 처리된 학과는 재시도하지 않음")
+    void noRetryAfterTimeout() throws InterruptedException {
+
+        when(staffScraper.scrap(eq(deptInfo), any(StaffScrapStat.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(200);
+                    throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP);
+                });
+
+        DeptScrapReport report = scrapAll(3, 100);
+        assertFalse(report.isSuccess());
+
+        // 첫 시도가 끝난 뒤 예약된 재시도는 바로 종료된다.
+        Thread.sleep(500);
+        verify(staffScraper, times(1)).scrap(eq(deptInfo), any(StaffScrapStat.class));
+    }
+
+    private DeptScrapReport scrapAll(int maxAttempts, long timeout) {
+        StaffScrapEngine staffScrapEngine = new StaffScrapEngine(staffScraper, scheduler, maxAttempts, 10, timeout);
+        return staffScrapEngine.scrapAll(Collections.singletonList(deptInfo)).get(0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.kustacks.kuring.kuapi.staff;
+
+import com.kustacks.kuring.domain.staff.StaffRepository;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.kuapi.api.ConditionalFetchCache;
+import com.kustacks.kuring.kuapi.api.staff.StaffAPIClient;
+import com.kustacks.kuring.kuapi.api.staff.StaffPageConsumer;
+import com.kustacks.kuring.kuapi.scrap.StaffScraper;
+import com.kustacks.kuring.kuapi.scrap.parser.HTMLParser;
+import com.kustacks.kuring.kuapi.staff.deptinfo.DeptInfo;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StaffUpdaterTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final String PAGE_KEY = "http://localhost/staff";
+
+    private final DeptInfo deptInfo = new DeptInfo("1", "국어국문학과", "문과대학", new String[]{"1"});
+
+    private ConditionalFetchCache conditionalFetchCache;
+    private StaffRepository staffRepository;
+    private HTMLParser htmlParser;
+    private ThreadPoolTaskScheduler scheduler;
+    private StaffUpdater staffUpdater;
+
+    // 교직원 페이지의 현재 본문과, 페이지를 전달한 뒤 실패할 남은 시도 수
+    private volatile String pageBody;
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        conditionalFetchCache = new ConditionalFetchCache(100, DAY);
+        staffRepository = mock(StaffRepository.class);
+
+        StaffAPIClient staffAPIClient = mock(StaffAPIClient.class);
+        when(staffAPIClient.support(any())).thenReturn(true);
+        doAnswer(invocation -> {
+            StaffPageConsumer pageConsumer = invocation.getArgument(1);
+            pageConsumer.accept(PAGE_KEY, conditionalFetchCache.parseIfModified(PAGE_KEY, response(pageBody)));
+            if(remainingFailures.getAndDecrement() > 0) {
+                throw new InternalLogicException(ErrorCode.STAFF_SCRAPER_CANNOT_SCRAP);
+            }
+            return null;
+        }).when(staffAPIClient).getHTML(any(), any());
+
+        htmlParser = mock(HTMLParser.class);
+        when(htmlParser.support(any())).thenReturn(true);
+        doAnswer(invocation -> {
+            Document document = invocation.getArgument(0);
+            Consumer<String[]> sink = invocation.getArgument(1);
+            sink.accept(new String[]{document.body().text(), "국문학", "", "", "staff@konkuk.ac.kr"});
+            return null;
+        }).when(htmlParser).parse(any(Document.class), any());
+
+        StaffScraper staffScraper = new StaffScraper(Collections.singletonList(htmlParser), Collections.singletonList(staffAPIClient), conditionalFetchCache);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.initialize();
+        StaffScrapEngine staffScrapEngine = new StaffScrapEngine(staffScraper, scheduler, 3, 10, 5000);
+
+        staffUpdater = new StaffUpdater(staffRepository, staffScrapEngine, conditionalFetchCache,
+                Collections.singletonList(deptInfo), mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 다음 갱신에서 바뀐 페이지를 다시 반영")
+    void rerunAfterDBFailure() {
+
+        when(staffRepository.saveAll(anyIterable()))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(Collections.emptyList());
+
+        pageBody = "<p>홍길동</p>";
+        assertThrows(IllegalStateException.class, () -> staffUpdater.update());
+        assertNull(conditionalFetchCache.get(PAGE_KEY));
+
+        // 페이지는 그대로지만, 반영하지 못한 변경이므로 다시 DB와 비교한다.
+        staffUpdater.update();
+        verify(staffRepository, times(3)).saveAll(anyIterable());
+        assertNotNull(conditionalFetchCache.get(PAGE_KEY));
+
+        // 반영한 뒤에는 바뀌지 않은 페이지이므로 보관한 파싱 결과를 사용하고 DB와 비교하지 않는다.
+        staffUpdater.update();
+        verify(staffRepository, times(3)).saveAll(anyIterable());
+        verify(htmlParser, times(2)).parse(any(Document.class), any());
+    }
+
+    @Test
+    @DisplayName("바뀐 페이지를 받은 시도가 실패해도 재시도가 성공하면 DB에 반영")
+    void retryAfterModifiedPage() {
+
+        pageBody = "<p>홍길동</p>";
+        remainingFailures.set(1);
+
+        staffUpdater.update();
+
+        verify(staffRepository, times(2)).saveAll(anyIterable());
+        assertNotNull(conditionalFetchCache.get(PAGE_KEY));
+    }
+
+    private Connection.Response response(String body) throws Exception {
+
+        Connection.Response response = mock(Connection.Response.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+        when(response.url()).thenReturn(new URL(PAGE_KEY));
+
+        return response;
+    }
+}
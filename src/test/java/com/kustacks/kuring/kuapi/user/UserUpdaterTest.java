@@ -0,0 +1,52 @@
+package com.kustacks.kuring.kuapi.user;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.kustacks.kuring.domain.job_checkpoint.JobCheckpoint;
+import com.kustacks.kuring.domain.job_checkpoint.JobCheckpointRepository;
+import com.kustacks.kuring.domain.user.UserRepository;
+import com.kustacks.kuring.domain.user.UserToken;
+import com.kustacks.kuring.error.ErrorCode;
+import com.kustacks.kuring.error.InternalLogicException;
+import com.kustacks.kuring.service.FirebaseService;
+import com.kustacks.kuring.service.TokenValidityCache;
+import com.kustacks.kuring.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class UserUpdaterTest {
+
+    @Test
+    @DisplayName("토큰 검증 요청에 실패하면 진행 위치를 남긴 채 예외를 던져 작업이 실패로 기록되게 함")
+    void verifyFailureThrows() throws FirebaseMessagingException {
+
+        UserToken user = mock(UserToken.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getToken()).thenReturn("token");
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findTokensAfter(anyLong(), any())).thenReturn(Collections.singletonList(user));
+
+        FirebaseService firebaseService = mock(FirebaseService.class);
+        when(firebaseService.findInvalidTokens(any())).thenThrow(mock(FirebaseMessagingException.class));
+
+        JobCheckpointRepository jobCheckpointRepository = mock(JobCheckpointRepository.class);
+        when(jobCheckpointRepository.findById(any())).thenReturn(Optional.empty());
+
+        UserService userService = mock(UserService.class);
+        UserUpdater userUpdater = new UserUpdater(firebaseService, userRepository, userService,
+                jobCheckpointRepository, mock(TokenValidityCache.class), 100);
+
+        InternalLogicException e = assertThrows(InternalLogicException.class, userUpdater::update);
+        assertEquals(ErrorCode.FB_FAIL_VERIFY_TOKEN, e.getErrorCode());
+
+        verify(userService, never()).deleteUsers(any());
+        verify(jobCheckpointRepository, never()).delete(any(JobCheckpoint.class));
+    }
+}
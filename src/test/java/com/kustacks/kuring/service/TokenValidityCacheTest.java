@@ -0,0 +1,65 @@
+package com.kustacks.kuring.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TokenValidityCacheTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final String TOKEN = "TEST_TOKEN";
+
+    private FirebaseService firebaseService;
+    private TokenValidityCache tokenValidityCache;
+
+    @BeforeEach
+    void setUp() {
+        firebaseService = mock(FirebaseService.class);
+        tokenValidityCache = new TokenValidityCache(firebaseService, 100, DAY, DAY);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 FCM에 다시 검증하지 않음")
+    void invalidTokenIsCached() throws FirebaseMessagingException {
+
+        doThrow(mock(FirebaseMessagingException.class)).when(firebaseService).verifyToken(TOKEN);
+        when(firebaseService.isInvalidToken(any())).thenReturn(true);
+
+        assertFalse(tokenValidityCache.isValid(TOKEN));
+        assertFalse(tokenValidityCache.isValid(TOKEN));
+
+        verify(firebaseService, times(1)).verifyToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 보관하지 않고 예외를 던짐")
+    void transientErrorIsNotCached() throws FirebaseMessagingException {
+
+        doThrow(mock(FirebaseMessagingException.class)).when(firebaseService).verifyToken(TOKEN);
+        when(firebaseService.isInvalidToken(any())).thenReturn(false);
+
+        assertThrows(FirebaseMessagingException.class, () -> tokenValidityCache.isValid(TOKEN));
+        assertThrows(FirebaseMessagingException.class, () -> tokenValidityCache.isValid(TOKEN));
+
+        verify(firebaseService, times(2)).verifyToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("UserUpdater가 찾은 유효하지 않은 토큰은 캐시된 유효한 결과를 대신함")
+    void refreshCachesInvalidatedTokens() throws FirebaseMessagingException {
+
+        assertTrue(tokenValidityCache.isValid(TOKEN));
+
+        tokenValidityCache.refresh(Collections.emptyList(), Collections.singletonList(TOKEN));
+
+        assertFalse(tokenValidityCache.isValid(TOKEN));
+        verify(firebaseService, times(1)).verifyToken(TOKEN);
+    }
+}
@@ -0,0 +1,82 @@
+package com.kustacks.kuring.service.search;
+
+import com.kustacks.kuring.domain.category.Category;
+import com.kustacks.kuring.domain.notice.Notice;
+import com.kustacks.kuring.domain.notice.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class NoticeSearchIndexTest {
+
+    private final Category bachelor = Category.builder().name("bachelor").build();
+    private final Category scholarship = Category.builder().name("scholarship").build();
+
+    private NoticeSearchIndex noticeSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        noticeSearchIndex = new NoticeSearchIndex(mock(NoticeRepository.class));
+        noticeSearchIndex.rebuild(Arrays.asList(
+                notice("1", "2021학년도 2학기 수강신청 안내", bachelor, 1),
+                notice("2", "2학기 국가장학금 신청 안내", scholarship, 3),
+                notice("3", "교내장학금 선발 결과", scholarship, 2),
+                notice("4", "졸업 논문 제출 안내", bachelor, 4)
+        ));
+    }
+
+    @DisplayName("모든 키워드를 포함하는 공지를 게시일 내림차순으로 반환")
+    @Test
+    public void searchBySubjectKeywords() {
+        assertEquals(Arrays.asList("4", "2", "1"), articleIds(noticeSearchIndex.search(new String[]{"안내"})));
+        assertEquals(Arrays.asList("2", "1"), articleIds(noticeSearchIndex.search(new String[]{"신청", "안내"})));
+        assertEquals(Collections.singletonList("2"), articleIds(noticeSearchIndex.search(new String[]{"장학금", "2"})));
+    }
+
+    @DisplayName("키워드의 글자 조각이 모두 있어도 연속되지 않으면 제외")
+    @Test
+    public void searchRequiresContiguousKeyword() {
+        assertEquals(Collections.emptyList(), articleIds(noticeSearchIndex.search(new String[]{"안내신청"})));
+    }
+
+    @DisplayName("카테고리명 키워드로 검색")
+    @Test
+    public void searchByCategoryName() {
+        assertEquals(Arrays.asList("2", "3"), articleIds(noticeSearchIndex.search(new String[]{"scholarship"})));
+        assertEquals(Collections.singletonList("4"), articleIds(noticeSearchIndex.search(new String[]{"bachelor", "졸업"})));
+    }
+
+    @DisplayName("동기화 결과로 추가/삭제된 공지를 반영")
+    @Test
+    public void updateIncrementally() {
+        Notice removed = notice("1", "2021학년도 2학기 수강신청 안내", bachelor, 1);
+        Notice added = notice("5", "수강신청 정정 안내", bachelor, 5);
+
+        noticeSearchIndex.update(Collections.singletonList(added), Collections.singletonList(removed));
+
+        assertEquals(Collections.singletonList("5"), articleIds(noticeSearchIndex.search(new String[]{"수강신청"})));
+    }
+
+    private Notice notice(String articleId, String subject, Category category, int day) {
+        return Notice.builder()
+                .articleId(articleId)
+                .postedDate(String.format("202110%02d", day))
+                .postedAt(LocalDateTime.of(2021, 10, day, 0, 0))
+                .subject(subject)
+                .category(category)
+                .build();
+    }
+
+    private List<String> articleIds(List<Notice> notices) {
+        return notices.stream().map(Notice::getArticleId).collect(Collectors.toList());
+    }
+}